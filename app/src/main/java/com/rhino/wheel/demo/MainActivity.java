@@ -99,10 +99,11 @@ public class MainActivity extends AppCompatActivity {
                 String[] displayedValues2 = new String[]{
                         "5分", "10分", "30分", "1小时", "2小时"
                 };
-                mWheelView2.setLabel("");
-                mWheelView2.setDisplayedValues(displayedValues2);
-                mWheelView2.setItemVerticalHeight(60);
-                mWheelView2.invalidate();
+                mWheelView2.edit()
+                        .setLabel("")
+                        .setDisplayedValues(displayedValues2)
+                        .setItemVerticalHeight(60)
+                        .apply();
                 break;
             default:
                 break;
@@ -0,0 +1,64 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The UI thread part of {@link WheelView#setDisplayedValuesAsync(String[], Executor)},
+ * publishing items already measured on the worker. Compare with
+ * {@link TextMeasureBenchmark#setDisplayedValues()}.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncContentBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private String[] mDisplayedValues;
+    private final Deque<Runnable> mJobs = new ArrayDeque<>();
+    private final Executor mExecutor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            mJobs.add(command);
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mDisplayedValues = WheelFixture.newDisplayedValues(range);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareValues() {
+        mWheelView.setDisplayedValuesAsync(mDisplayedValues, mExecutor);
+        mJobs.poll().run();
+    }
+
+    @Benchmark
+    public int publishPreparedValues() {
+        mWheelView.runAnimationCallbacks();
+        return mWheelView.getMaxValue();
+    }
+}
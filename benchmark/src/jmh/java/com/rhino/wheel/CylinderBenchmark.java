@@ -0,0 +1,70 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+import android.view.View.MeasureSpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The flat and the cylinder projection: one frame while scrolling, which
+ * only looks up the precomputed tables, the layout pass that builds them,
+ * and a measure pass that changes nothing and keeps them.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CylinderBenchmark {
+
+    private static final int SCROLL_STEP = 7;
+
+    @Param({"false", "true"})
+    public boolean itemCylinder;
+
+    private WheelView mWheelView;
+    private Canvas mCanvas;
+    private int mLayoutCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(1000);
+        mWheelView.setItemCylinderEnable(itemCylinder);
+        mCanvas = new Canvas();
+    }
+
+    @Benchmark
+    public int drawScrollingFrame() {
+        mWheelView.scrollBy(0, SCROLL_STEP);
+        mWheelView.draw(mCanvas);
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int layout() {
+        // Alternate the height so every call lays the items out again.
+        mWheelView.setItemVerticalHeight(WheelFixture.ITEM_HEIGHT + (mLayoutCount++ & 1));
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int remeasure() {
+        mWheelView.measure(MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_HEIGHT, MeasureSpec.EXACTLY));
+        return mWheelView.getValue();
+    }
+}
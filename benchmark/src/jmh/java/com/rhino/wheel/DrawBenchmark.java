@@ -0,0 +1,72 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of {@link WheelView#draw(Canvas)} while scrolling, with labels
+ * drawn as text or from the label atlas, at continuous or bucketed sizes,
+ * faded per item or with one gradient mask, and with numeric labels from
+ * Strings or from one reused char buffer.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DrawBenchmark {
+
+    private static final int SCROLL_STEP = 7;
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    @Param({"false", "true"})
+    public boolean labelAtlas;
+
+    @Param({"0", "8"})
+    public int textSizeBuckets;
+
+    @Param({"false", "true"})
+    public boolean itemFadeShader;
+
+    @Param({"false", "true"})
+    public boolean numericLabelFormat;
+
+    private WheelView mWheelView;
+    private Canvas mCanvas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mWheelView.setLabelAtlasEnable(labelAtlas);
+        mWheelView.setItemTextSizeBucketCount(textSizeBuckets);
+        mWheelView.setItemFadeShaderEnable(itemFadeShader);
+        if (numericLabelFormat) {
+            mWheelView.setNumericLabelFormat(0, false, null, null);
+        }
+        mCanvas = new Canvas();
+    }
+
+    @Benchmark
+    public int drawScrollingFrame() {
+        mWheelView.scrollBy(0, SCROLL_STEP);
+        mWheelView.draw(mCanvas);
+        return mWheelView.getValue();
+    }
+}
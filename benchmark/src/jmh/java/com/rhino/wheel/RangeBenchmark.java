@@ -0,0 +1,56 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A dependent range dropping and adding its last item, like a day wheel
+ * going between 31 and 30 days, through the max value setter and through
+ * {@link WheelView#setRange(int, int)}.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private boolean mShrunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mShrunk = false;
+    }
+
+    @Benchmark
+    public int setMaxValue() {
+        mShrunk = !mShrunk;
+        mWheelView.setMaxValue(mShrunk ? range - 1 : range);
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int setRange() {
+        mShrunk = !mShrunk;
+        mWheelView.setRange(1, mShrunk ? range - 1 : range);
+        return mWheelView.getValue();
+    }
+}
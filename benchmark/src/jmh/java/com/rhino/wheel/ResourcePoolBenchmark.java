@@ -0,0 +1,61 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A settings screen of wheels showing the same displayed values, set up
+ * with and without a shared {@link WheelResourcePool}.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourcePoolBenchmark {
+
+    private static final int WHEEL_COUNT = 24;
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    @Param({"false", "true"})
+    public boolean resourcePool;
+
+    private WheelView[] mWheelViews;
+    private String[] mDisplayedValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WheelResourcePool pool = resourcePool ? new WheelResourcePool() : null;
+        mWheelViews = new WheelView[WHEEL_COUNT];
+        for (int i = 0; i < WHEEL_COUNT; i++) {
+            mWheelViews[i] = WheelFixture.newVerticalWheel(range);
+            mWheelViews[i].setResourcePool(pool);
+        }
+        mDisplayedValues = WheelFixture.newDisplayedValues(range);
+    }
+
+    @Benchmark
+    public int setDisplayedValuesOnScreen() {
+        int maxValue = 0;
+        for (WheelView wheelView : mWheelViews) {
+            wheelView.setDisplayedValues(mDisplayedValues);
+            maxValue += wheelView.getMaxValue();
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,56 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WheelView#scrollBy(int, int)} for a single item crossing and for a
+ * fling tick that crosses several items at once.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollBenchmark {
+
+    private static final int FLING_TICK_ITEMS = 12;
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private int mDirection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mDirection = 1;
+    }
+
+    @Benchmark
+    public int scrollOneItem() {
+        mWheelView.scrollBy(0, mDirection * WheelFixture.ITEM_HEIGHT);
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int scrollFlingTick() {
+        mDirection = -mDirection;
+        mWheelView.scrollBy(0, mDirection * FLING_TICK_ITEMS * WheelFixture.ITEM_HEIGHT);
+        return mWheelView.getValue();
+    }
+}
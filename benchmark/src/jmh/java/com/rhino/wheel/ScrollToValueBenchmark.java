@@ -0,0 +1,53 @@
+package com.rhino.wheel;
+
+import android.os.SystemClock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole {@link WheelView#scrollToValue(int, boolean, long)} animation to
+ * the far side of the range, every frame included.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollToValueBenchmark {
+
+    private static final long DURATION_MILLIS = 300;
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private TouchTrace mNoTouches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mNoTouches = new TouchTrace();
+    }
+
+    @Benchmark
+    public int scrollToFarValue() {
+        int target = mWheelView.getValue() + range / 2;
+        SystemClock.setCurrentTimeMillis(TouchTracePlayer.START_TIME_MILLIS);
+        mWheelView.scrollToValue(target, true, DURATION_MILLIS);
+        return TouchTracePlayer.play(mWheelView, mNoTouches).getFinalValue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selector index bookkeeping: window rebuild, index wrapping and label lookup.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectorBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private int mIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mIndex = 0;
+    }
+
+    @Benchmark
+    public int initializeSelectorWheelIndices() {
+        mWheelView.initializeSelectorWheelIndices();
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int getWrappedSelectorIndex() {
+        // Walks both out-of-range sides of the cyclic window.
+        mIndex = mIndex >= 3 * range ? -2 * range : mIndex + 7;
+        return mWheelView.getWrappedSelectorIndex(mIndex);
+    }
+
+    @Benchmark
+    public void ensureCachedScrollSelectorValue() {
+        mIndex = mIndex >= range ? 1 : mIndex + 1;
+        mWheelView.ensureCachedScrollSelectorValue(mIndex);
+    }
+}
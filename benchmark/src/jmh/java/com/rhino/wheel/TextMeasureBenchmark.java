@@ -0,0 +1,64 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Layout-time text work: finding the widest item and fitting the text size.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextMeasureBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    private WheelView mWheelView;
+    private String[] mDisplayedValues;
+    private String mMaxWidthString;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mDisplayedValues = WheelFixture.newDisplayedValues(range);
+        mMaxWidthString = mWheelView.getMaxWidthString(mDisplayedValues);
+    }
+
+    @Benchmark
+    public int setDisplayedValues() {
+        mWheelView.setDisplayedValues(mDisplayedValues);
+        return mWheelView.getMaxValue();
+    }
+
+    @Benchmark
+    public String getMaxWidthString() {
+        return mWheelView.getMaxWidthString(mDisplayedValues);
+    }
+
+    @Benchmark
+    public int measureTextSize() {
+        return mWheelView.measureTextSize(WheelFixture.VIEW_WIDTH, mMaxWidthString);
+    }
+
+    @Benchmark
+    public int measureTextSizeUncached() {
+        TextSizeFitter.clearCache();
+        return mWheelView.measureTextSize(WheelFixture.VIEW_WIDTH, mMaxWidthString);
+    }
+}
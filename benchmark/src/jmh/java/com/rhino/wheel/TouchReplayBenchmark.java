@@ -0,0 +1,50 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A recorded gesture replayed from the first touch until the wheel settles,
+ * including every frame of the fling and the adjust animation.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TouchReplayBenchmark {
+
+    @Param({"10", "1000", "1000000"})
+    public int range;
+
+    @Param({"drag_release.trace", "fling_down.trace", "fling_catch.trace"})
+    public String trace;
+
+    private WheelView mWheelView;
+    private TouchTrace mTrace;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        mTrace = TouchTracePlayer.loadTrace(trace);
+    }
+
+    @Benchmark
+    public int replay() {
+        return TouchTracePlayer.play(mWheelView, mTrace).getFinalValue();
+    }
+}
@@ -0,0 +1,64 @@
+package com.rhino.wheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fast fling frame, which crosses many items at once, with even items and
+ * with items of their own heights, and changing the height of one item.
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableHeightBenchmark {
+
+    private static final int FLING_STEP = 4000;
+
+    @Param({"1000", "1000000"})
+    public int range;
+
+    @Param({"false", "true"})
+    public boolean variableHeights;
+
+    private WheelView mWheelView;
+    private int mNextValue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mWheelView = WheelFixture.newVerticalWheel(range);
+        if (variableHeights) {
+            // A section header every 20 items.
+            for (int value = 1; value <= range; value += 20) {
+                mWheelView.setItemHeight(value, WheelFixture.ITEM_HEIGHT * 2);
+            }
+        }
+    }
+
+    @Benchmark
+    public int flingFrame() {
+        mWheelView.scrollBy(0, FLING_STEP);
+        return mWheelView.getValue();
+    }
+
+    @Benchmark
+    public int setItemHeight() {
+        mNextValue = mNextValue % range + 1;
+        mWheelView.setItemHeight(mNextValue, WheelFixture.ITEM_HEIGHT + (mNextValue & 7));
+        return mNextValue;
+    }
+}
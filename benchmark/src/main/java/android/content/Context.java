@@ -0,0 +1,21 @@
+package android.content;
+
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.util.AttributeSet;
+
+/**
+ * JVM shim of {@code android.content.Context} for the benchmarks.
+ **/
+public class Context {
+
+    private final Resources mResources = new Resources();
+
+    public Resources getResources() {
+        return mResources;
+    }
+
+    public TypedArray obtainStyledAttributes(AttributeSet set, int[] attrs) {
+        return new TypedArray();
+    }
+}
@@ -0,0 +1,15 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * JVM shim of {@code android.content.res.Resources}.
+ **/
+public class Resources {
+
+    private final DisplayMetrics mMetrics = new DisplayMetrics();
+
+    public DisplayMetrics getDisplayMetrics() {
+        return mMetrics;
+    }
+}
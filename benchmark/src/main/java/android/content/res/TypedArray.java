@@ -0,0 +1,34 @@
+package android.content.res;
+
+/**
+ * JVM shim of {@code android.content.res.TypedArray}, always returns the defaults.
+ **/
+public class TypedArray {
+
+    public int getInt(int index, int defValue) {
+        return defValue;
+    }
+
+    public int getDimensionPixelSize(int index, int defValue) {
+        return defValue;
+    }
+
+    public float getFloat(int index, float defValue) {
+        return defValue;
+    }
+
+    public int getColor(int index, int defValue) {
+        return defValue;
+    }
+
+    public boolean getBoolean(int index, boolean defValue) {
+        return defValue;
+    }
+
+    public String getString(int index) {
+        return null;
+    }
+
+    public void recycle() {
+    }
+}
@@ -0,0 +1,55 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Bitmap} that only tracks its size.
+ **/
+public final class Bitmap {
+
+    public enum Config {
+        ALPHA_8(1), RGB_565(2), ARGB_8888(4);
+
+        final int mBytesPerPixel;
+
+        Config(int bytesPerPixel) {
+            mBytesPerPixel = bytesPerPixel;
+        }
+    }
+
+    private final int mWidth;
+    private final int mHeight;
+    private final Config mConfig;
+    private boolean mRecycled;
+
+    private Bitmap(int width, int height, Config config) {
+        mWidth = width;
+        mHeight = height;
+        mConfig = config;
+    }
+
+    public static Bitmap createBitmap(int width, int height, Config config) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be > 0");
+        }
+        return new Bitmap(width, height, config);
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    public int getByteCount() {
+        return mRecycled ? 0 : mWidth * mHeight * mConfig.mBytesPerPixel;
+    }
+
+    public void recycle() {
+        mRecycled = true;
+    }
+
+    public boolean isRecycled() {
+        return mRecycled;
+    }
+}
@@ -0,0 +1,63 @@
+package android.graphics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * JVM shim of {@code android.graphics.Camera}: rotations about the x and y
+ * axes, seen from the default location 8 inches in front of the view.
+ **/
+public class Camera {
+
+    private static final float LOCATION_Z = 8 * 72;
+
+    private final Deque<float[]> mSaved = new ArrayDeque<>();
+    private float[] mRotation = {1, 0, 0, 0, 1, 0, 0, 0, 1};
+
+    public void save() {
+        mSaved.push(mRotation.clone());
+    }
+
+    public void restore() {
+        mRotation = mSaved.pop();
+    }
+
+    public void rotateX(float deg) {
+        double rad = Math.toRadians(deg);
+        float cos = (float) Math.cos(rad);
+        float sin = (float) Math.sin(rad);
+        rotate(new float[]{1, 0, 0, 0, cos, sin, 0, -sin, cos});
+    }
+
+    public void rotateY(float deg) {
+        double rad = Math.toRadians(deg);
+        float cos = (float) Math.cos(rad);
+        float sin = (float) Math.sin(rad);
+        rotate(new float[]{cos, 0, -sin, 0, 1, 0, sin, 0, cos});
+    }
+
+    /**
+     * Projects the z = 0 plane after the rotation onto the screen.
+     */
+    public void getMatrix(Matrix matrix) {
+        float[] r = mRotation;
+        matrix.setValues(new float[]{
+                r[0], r[1], 0,
+                r[3], r[4], 0,
+                r[6] / LOCATION_Z, r[7] / LOCATION_Z, 1});
+    }
+
+    private void rotate(float[] rotation) {
+        float[] result = new float[9];
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                float sum = 0;
+                for (int k = 0; k < 3; k++) {
+                    sum += mRotation[row * 3 + k] * rotation[k * 3 + col];
+                }
+                result[row * 3 + col] = sum;
+            }
+        }
+        mRotation = result;
+    }
+}
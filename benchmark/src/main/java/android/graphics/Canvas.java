@@ -0,0 +1,68 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Canvas} that draws nothing.
+ **/
+public class Canvas {
+
+    public static final int ALL_SAVE_FLAG = 0x1F;
+
+    private int mSaveCount = 1;
+
+    public Canvas() {
+    }
+
+    public Canvas(Bitmap bitmap) {
+    }
+
+    public int save() {
+        return mSaveCount++;
+    }
+
+    public int saveLayer(float left, float top, float right, float bottom, Paint paint) {
+        return mSaveCount++;
+    }
+
+    public int saveLayer(float left, float top, float right, float bottom, Paint paint, int saveFlags) {
+        return mSaveCount++;
+    }
+
+    public void restore() {
+        if (mSaveCount <= 1) {
+            throw new IllegalStateException("Underflow in restore");
+        }
+        mSaveCount--;
+    }
+
+    public int getSaveCount() {
+        return mSaveCount;
+    }
+
+    public void concat(Matrix matrix) {
+    }
+
+    public void restoreToCount(int saveCount) {
+        if (saveCount < 1 || saveCount >= mSaveCount) {
+            throw new IllegalArgumentException("Underflow in restoreToCount");
+        }
+        mSaveCount = saveCount;
+    }
+
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+    }
+
+    public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+    }
+
+    public void drawText(String text, float x, float y, Paint paint) {
+    }
+
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+    }
+
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+    }
+
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+    }
+}
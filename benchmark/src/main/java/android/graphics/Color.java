@@ -0,0 +1,10 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Color}.
+ **/
+public class Color {
+    public static final int BLACK = 0xFF000000;
+    public static final int WHITE = 0xFFFFFFFF;
+    public static final int TRANSPARENT = 0;
+}
@@ -0,0 +1,35 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.LinearGradient}.
+ **/
+public class LinearGradient extends Shader {
+
+    private final int[] mColors;
+    private final float[] mPositions;
+
+    public LinearGradient(float x0, float y0, float x1, float y1, int[] colors, float[] positions, TileMode tile) {
+        if (colors.length < 2) {
+            throw new IllegalArgumentException("needs >= 2 number of colors");
+        }
+        if (positions != null && colors.length != positions.length) {
+            throw new IllegalArgumentException("color and position arrays must be of equal length");
+        }
+        mColors = colors.clone();
+        mPositions = null != positions ? positions.clone() : null;
+    }
+
+    /**
+     * The colors of the stops, for the tests only.
+     */
+    public int[] getColors() {
+        return mColors.clone();
+    }
+
+    /**
+     * The positions of the stops, for the tests only.
+     */
+    public float[] getPositions() {
+        return null != mPositions ? mPositions.clone() : null;
+    }
+}
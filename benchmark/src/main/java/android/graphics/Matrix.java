@@ -0,0 +1,77 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Matrix}, a 3x3 matrix in row major
+ * order.
+ **/
+public class Matrix {
+    public static final int MSCALE_X = 0;
+    public static final int MSKEW_X = 1;
+    public static final int MTRANS_X = 2;
+    public static final int MSKEW_Y = 3;
+    public static final int MSCALE_Y = 4;
+    public static final int MTRANS_Y = 5;
+    public static final int MPERSP_0 = 6;
+    public static final int MPERSP_1 = 7;
+    public static final int MPERSP_2 = 8;
+
+    private final float[] mValues = new float[9];
+
+    public Matrix() {
+        reset();
+    }
+
+    public void reset() {
+        setValues(new float[]{1, 0, 0, 0, 1, 0, 0, 0, 1});
+    }
+
+    public void setValues(float[] values) {
+        System.arraycopy(values, 0, mValues, 0, 9);
+    }
+
+    public void getValues(float[] values) {
+        System.arraycopy(mValues, 0, values, 0, 9);
+    }
+
+    public boolean preTranslate(float dx, float dy) {
+        concat(mValues, new float[]{1, 0, dx, 0, 1, dy, 0, 0, 1});
+        return true;
+    }
+
+    public boolean postTranslate(float dx, float dy) {
+        float[] values = {1, 0, dx, 0, 1, dy, 0, 0, 1};
+        concat(values, mValues);
+        System.arraycopy(values, 0, mValues, 0, 9);
+        return true;
+    }
+
+    /**
+     * Maps the x, y pairs in place, with the perspective divide.
+     */
+    public void mapPoints(float[] pts) {
+        for (int i = 0; i + 1 < pts.length; i += 2) {
+            float x = pts[i];
+            float y = pts[i + 1];
+            float w = mValues[MPERSP_0] * x + mValues[MPERSP_1] * y + mValues[MPERSP_2];
+            pts[i] = (mValues[MSCALE_X] * x + mValues[MSKEW_X] * y + mValues[MTRANS_X]) / w;
+            pts[i + 1] = (mValues[MSKEW_Y] * x + mValues[MSCALE_Y] * y + mValues[MTRANS_Y]) / w;
+        }
+    }
+
+    /**
+     * Sets {@code a} to {@code a * b}.
+     */
+    private static void concat(float[] a, float[] b) {
+        float[] result = new float[9];
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                float sum = 0;
+                for (int k = 0; k < 3; k++) {
+                    sum += a[row * 3 + k] * b[k * 3 + col];
+                }
+                result[row * 3 + col] = sum;
+            }
+        }
+        System.arraycopy(result, 0, a, 0, 9);
+    }
+}
@@ -0,0 +1,156 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Paint}.
+ * <p>
+ * Text is measured with a fixed advance model: latin glyphs are 0.55 em and
+ * everything else is 1 em, so results are deterministic across machines.
+ **/
+public class Paint {
+
+    public static final int ANTI_ALIAS_FLAG = 0x01;
+    public static final int FILTER_BITMAP_FLAG = 0x02;
+
+    public enum Align {
+        LEFT, CENTER, RIGHT
+    }
+
+    public enum Style {
+        FILL, STROKE, FILL_AND_STROKE
+    }
+
+    public static class FontMetricsInt {
+        public int top;
+        public int ascent;
+        public int descent;
+        public int bottom;
+        public int leading;
+    }
+
+    private float mTextSize = 12;
+    private int mFlags;
+    private Typeface mTypeface;
+    private int mColor = Color.BLACK;
+    private float mStrokeWidth;
+    private Style mStyle = Style.FILL;
+    private Align mTextAlign = Align.LEFT;
+    private Xfermode mXfermode;
+    private Shader mShader;
+
+    public Paint() {
+    }
+
+    public Paint(int flags) {
+        mFlags = flags;
+    }
+
+    public void setFilterBitmap(boolean filter) {
+        mFlags = filter ? mFlags | FILTER_BITMAP_FLAG : mFlags & ~FILTER_BITMAP_FLAG;
+    }
+
+    public Shader setShader(Shader shader) {
+        mShader = shader;
+        return shader;
+    }
+
+    public Shader getShader() {
+        return mShader;
+    }
+
+    public Xfermode setXfermode(Xfermode xfermode) {
+        mXfermode = xfermode;
+        return xfermode;
+    }
+
+    public void setAntiAlias(boolean aa) {
+        mFlags = aa ? mFlags | ANTI_ALIAS_FLAG : mFlags & ~ANTI_ALIAS_FLAG;
+    }
+
+    public int getFlags() {
+        return mFlags;
+    }
+
+    public void setFlags(int flags) {
+        mFlags = flags;
+    }
+
+    public Typeface getTypeface() {
+        return mTypeface;
+    }
+
+    public Typeface setTypeface(Typeface typeface) {
+        mTypeface = typeface;
+        return typeface;
+    }
+
+    public void setStyle(Style style) {
+        mStyle = style;
+    }
+
+    public void setStrokeWidth(float width) {
+        mStrokeWidth = width;
+    }
+
+    public void setTextAlign(Align align) {
+        mTextAlign = align;
+    }
+
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    public int getColor() {
+        return mColor;
+    }
+
+    public void setAlpha(int a) {
+        mColor = (mColor & 0x00FFFFFF) | ((a & 0xFF) << 24);
+    }
+
+    public int getAlpha() {
+        return mColor >>> 24;
+    }
+
+    public void setTextSize(float textSize) {
+        mTextSize = textSize;
+    }
+
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public FontMetricsInt getFontMetricsInt() {
+        FontMetricsInt fm = new FontMetricsInt();
+        getFontMetricsInt(fm);
+        return fm;
+    }
+
+    public int getFontMetricsInt(FontMetricsInt fm) {
+        fm.top = (int) Math.floor(-1.06f * mTextSize);
+        fm.ascent = (int) Math.floor(-0.93f * mTextSize);
+        fm.descent = (int) Math.ceil(0.24f * mTextSize);
+        fm.bottom = (int) Math.ceil(0.27f * mTextSize);
+        fm.leading = 0;
+        return fm.descent - fm.ascent;
+    }
+
+    public float measureText(String text) {
+        return measureText(text, 0, text.length());
+    }
+
+    public float measureText(CharSequence text, int start, int end) {
+        float ems = 0;
+        for (int i = start; i < end; i++) {
+            ems += text.charAt(i) < 0x80 ? 0.55f : 1f;
+        }
+        return ems * mTextSize;
+    }
+
+    public float measureText(char[] text, int index, int count) {
+        float ems = 0;
+        for (int i = index; i < index + count; i++) {
+            ems += text[i] < 0x80 ? 0.55f : 1f;
+        }
+        return ems * mTextSize;
+    }
+}
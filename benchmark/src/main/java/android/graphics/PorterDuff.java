@@ -0,0 +1,11 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.PorterDuff}.
+ **/
+public class PorterDuff {
+
+    public enum Mode {
+        CLEAR, SRC, DST, SRC_OVER, DST_OVER, SRC_IN, DST_IN, SRC_OUT, DST_OUT
+    }
+}
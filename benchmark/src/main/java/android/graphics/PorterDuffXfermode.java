@@ -0,0 +1,10 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.PorterDuffXfermode}.
+ **/
+public class PorterDuffXfermode extends Xfermode {
+
+    public PorterDuffXfermode(PorterDuff.Mode mode) {
+    }
+}
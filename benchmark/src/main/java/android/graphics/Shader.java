@@ -0,0 +1,11 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Shader}.
+ **/
+public class Shader {
+
+    public enum TileMode {
+        CLAMP, REPEAT, MIRROR
+    }
+}
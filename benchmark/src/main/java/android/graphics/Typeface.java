@@ -0,0 +1,8 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Typeface}.
+ **/
+public class Typeface {
+    public static final Typeface DEFAULT = new Typeface();
+}
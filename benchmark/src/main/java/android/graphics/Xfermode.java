@@ -0,0 +1,7 @@
+package android.graphics;
+
+/**
+ * JVM shim of {@code android.graphics.Xfermode}.
+ **/
+public class Xfermode {
+}
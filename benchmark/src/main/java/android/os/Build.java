@@ -0,0 +1,19 @@
+package android.os;
+
+/**
+ * JVM shim of {@code android.os.Build}. The SDK level can be set, so both
+ * sides of a version check can be run.
+ **/
+public class Build {
+
+    public static class VERSION {
+        public static int SDK_INT = VERSION_CODES.P;
+    }
+
+    public static class VERSION_CODES {
+        public static final int KITKAT = 19;
+        public static final int LOLLIPOP = 21;
+        public static final int O = 26;
+        public static final int P = 28;
+    }
+}
@@ -0,0 +1,22 @@
+package android.os;
+
+/**
+ * JVM shim of {@code android.os.SystemClock}. Time only moves when set, so
+ * animations replay the same way on every run.
+ **/
+public final class SystemClock {
+
+    private static long sUptimeMillis;
+
+    private SystemClock() {
+    }
+
+    public static long uptimeMillis() {
+        return sUptimeMillis;
+    }
+
+    public static boolean setCurrentTimeMillis(long millis) {
+        sUptimeMillis = millis;
+        return true;
+    }
+}
@@ -0,0 +1,9 @@
+package android.text;
+
+import android.graphics.Paint;
+
+/**
+ * JVM shim of {@code android.text.TextPaint}.
+ **/
+public class TextPaint extends Paint {
+}
@@ -0,0 +1,11 @@
+package android.text;
+
+/**
+ * JVM shim of {@code android.text.TextUtils}.
+ **/
+public class TextUtils {
+
+    public static boolean isEmpty(CharSequence str) {
+        return str == null || str.length() == 0;
+    }
+}
@@ -0,0 +1,7 @@
+package android.util;
+
+/**
+ * JVM shim of {@code android.util.AttributeSet}.
+ **/
+public interface AttributeSet {
+}
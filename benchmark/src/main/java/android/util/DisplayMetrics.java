@@ -0,0 +1,9 @@
+package android.util;
+
+/**
+ * JVM shim of {@code android.util.DisplayMetrics} at mdpi.
+ **/
+public class DisplayMetrics {
+
+    public float density = 1f;
+}
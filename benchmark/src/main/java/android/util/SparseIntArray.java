@@ -0,0 +1,33 @@
+package android.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JVM shim of {@code android.util.SparseIntArray}.
+ **/
+public class SparseIntArray {
+
+    private final Map<Integer, Integer> mMap = new HashMap<>();
+
+    public int get(int key, int valueIfKeyNotFound) {
+        Integer value = mMap.get(key);
+        return null == value ? valueIfKeyNotFound : value;
+    }
+
+    public void put(int key, int value) {
+        mMap.put(key, value);
+    }
+
+    public void delete(int key) {
+        mMap.remove(key);
+    }
+
+    public void clear() {
+        mMap.clear();
+    }
+
+    public int size() {
+        return mMap.size();
+    }
+}
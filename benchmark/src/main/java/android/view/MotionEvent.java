@@ -0,0 +1,157 @@
+package android.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM shim of {@code android.view.MotionEvent}, with pointers and batched
+ * historical samples.
+ **/
+public class MotionEvent {
+    public static final int ACTION_MASK = 0xff;
+    public static final int ACTION_DOWN = 0;
+    public static final int ACTION_UP = 1;
+    public static final int ACTION_MOVE = 2;
+    public static final int ACTION_CANCEL = 3;
+    public static final int ACTION_POINTER_DOWN = 5;
+    public static final int ACTION_POINTER_UP = 6;
+    public static final int ACTION_POINTER_INDEX_MASK = 0xff00;
+    public static final int ACTION_POINTER_INDEX_SHIFT = 8;
+
+    public static final class PointerCoords {
+        public float x;
+        public float y;
+    }
+
+    private long mDownTime;
+    private long mEventTime;
+    private int mAction;
+    private int[] mPointerIds;
+    private float[] mXs;
+    private float[] mYs;
+    private final List<Long> mHistoryTimes = new ArrayList<>();
+    private final List<float[]> mHistoryXs = new ArrayList<>();
+    private final List<float[]> mHistoryYs = new ArrayList<>();
+
+    public static MotionEvent obtain(long downTime, long eventTime, int action, float x, float y, int metaState) {
+        MotionEvent event = new MotionEvent();
+        event.mDownTime = downTime;
+        event.mEventTime = eventTime;
+        event.mAction = action;
+        event.mPointerIds = new int[]{0};
+        event.mXs = new float[]{x};
+        event.mYs = new float[]{y};
+        return event;
+    }
+
+    public static MotionEvent obtain(long downTime, long eventTime, int action, int pointerCount, int[] pointerIds,
+                                     PointerCoords[] pointerCoords, int metaState, float xPrecision,
+                                     float yPrecision, int deviceId, int edgeFlags, int source, int flags) {
+        MotionEvent event = new MotionEvent();
+        event.mDownTime = downTime;
+        event.mEventTime = eventTime;
+        event.mAction = action;
+        event.mPointerIds = new int[pointerCount];
+        event.mXs = new float[pointerCount];
+        event.mYs = new float[pointerCount];
+        for (int i = 0; i < pointerCount; i++) {
+            event.mPointerIds[i] = pointerIds[i];
+            event.mXs[i] = pointerCoords[i].x;
+            event.mYs[i] = pointerCoords[i].y;
+        }
+        return event;
+    }
+
+    /**
+     * Moves the current sample into the history and makes the given one
+     * current, for single pointer events.
+     */
+    public void addBatch(long eventTime, float x, float y, float pressure, float size, int metaState) {
+        mHistoryTimes.add(mEventTime);
+        mHistoryXs.add(mXs);
+        mHistoryYs.add(mYs);
+        mEventTime = eventTime;
+        mXs = new float[]{x};
+        mYs = new float[]{y};
+    }
+
+    public void recycle() {
+    }
+
+    public int getAction() {
+        return mAction;
+    }
+
+    public int getActionMasked() {
+        return mAction & ACTION_MASK;
+    }
+
+    public int getActionIndex() {
+        return (mAction & ACTION_POINTER_INDEX_MASK) >> ACTION_POINTER_INDEX_SHIFT;
+    }
+
+    public int getPointerCount() {
+        return mPointerIds.length;
+    }
+
+    public int getPointerId(int pointerIndex) {
+        return mPointerIds[pointerIndex];
+    }
+
+    public int findPointerIndex(int pointerId) {
+        for (int i = 0; i < mPointerIds.length; i++) {
+            if (mPointerIds[i] == pointerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public float getX() {
+        return mXs[0];
+    }
+
+    public float getY() {
+        return mYs[0];
+    }
+
+    public float getX(int pointerIndex) {
+        return mXs[pointerIndex];
+    }
+
+    public float getY(int pointerIndex) {
+        return mYs[pointerIndex];
+    }
+
+    public int getHistorySize() {
+        return mHistoryTimes.size();
+    }
+
+    public long getHistoricalEventTime(int pos) {
+        return mHistoryTimes.get(pos);
+    }
+
+    public float getHistoricalX(int pos) {
+        return mHistoryXs.get(pos)[0];
+    }
+
+    public float getHistoricalY(int pos) {
+        return mHistoryYs.get(pos)[0];
+    }
+
+    public float getHistoricalX(int pointerIndex, int pos) {
+        return mHistoryXs.get(pos)[pointerIndex];
+    }
+
+    public float getHistoricalY(int pointerIndex, int pos) {
+        return mHistoryYs.get(pos)[pointerIndex];
+    }
+
+    public long getDownTime() {
+        return mDownTime;
+    }
+
+    public long getEventTime() {
+        return mEventTime;
+    }
+}
@@ -0,0 +1,86 @@
+package android.view;
+
+/**
+ * JVM shim of {@code android.view.VelocityTracker}, the average velocity
+ * over the samples of the last 100 ms, of the first pointer only.
+ **/
+public class VelocityTracker {
+
+    private static final int HORIZON_MILLIS = 100;
+    private static final int HISTORY_SIZE = 20;
+
+    private final long[] mTimes = new long[HISTORY_SIZE];
+    private final float[] mXs = new float[HISTORY_SIZE];
+    private final float[] mYs = new float[HISTORY_SIZE];
+    private int mIndex = -1;
+    private int mCount;
+    private float mVelocityX;
+    private float mVelocityY;
+
+    public static VelocityTracker obtain() {
+        return new VelocityTracker();
+    }
+
+    public void addMovement(MotionEvent event) {
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            mCount = 0;
+        }
+        for (int h = 0; h < event.getHistorySize(); h++) {
+            addSample(event.getHistoricalEventTime(h), event.getHistoricalX(h), event.getHistoricalY(h));
+        }
+        addSample(event.getEventTime(), event.getX(), event.getY());
+    }
+
+    private void addSample(long time, float x, float y) {
+        mIndex = (mIndex + 1) % HISTORY_SIZE;
+        mTimes[mIndex] = time;
+        mXs[mIndex] = x;
+        mYs[mIndex] = y;
+        mCount = Math.min(mCount + 1, HISTORY_SIZE);
+    }
+
+    public void clear() {
+        mCount = 0;
+    }
+
+    public void computeCurrentVelocity(int units, float maxVelocity) {
+        mVelocityX = 0;
+        mVelocityY = 0;
+        if (mCount < 2) {
+            return;
+        }
+        int oldest = mIndex;
+        for (int i = 1; i < mCount; i++) {
+            int index = (mIndex - i + HISTORY_SIZE) % HISTORY_SIZE;
+            if (mTimes[mIndex] - mTimes[index] > HORIZON_MILLIS) {
+                break;
+            }
+            oldest = index;
+        }
+        long dt = mTimes[mIndex] - mTimes[oldest];
+        if (dt <= 0) {
+            return;
+        }
+        mVelocityX = Math.max(-maxVelocity, Math.min(maxVelocity, (mXs[mIndex] - mXs[oldest]) * units / dt));
+        mVelocityY = Math.max(-maxVelocity, Math.min(maxVelocity, (mYs[mIndex] - mYs[oldest]) * units / dt));
+    }
+
+    public float getXVelocity() {
+        return mVelocityX;
+    }
+
+    public float getYVelocity() {
+        return mVelocityY;
+    }
+
+    public float getXVelocity(int id) {
+        return mVelocityX;
+    }
+
+    public float getYVelocity(int id) {
+        return mVelocityY;
+    }
+
+    public void recycle() {
+    }
+}
@@ -0,0 +1,186 @@
+package android.view;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM shim of {@code android.view.View}, records invalidations instead of drawing.
+ **/
+public class View {
+
+    public static class MeasureSpec {
+        private static final int MODE_SHIFT = 30;
+        private static final int MODE_MASK = 0x3 << MODE_SHIFT;
+        public static final int UNSPECIFIED = 0;
+        public static final int EXACTLY = 1 << MODE_SHIFT;
+        public static final int AT_MOST = 2 << MODE_SHIFT;
+
+        public static int makeMeasureSpec(int size, int mode) {
+            return (size & ~MODE_MASK) | (mode & MODE_MASK);
+        }
+
+        public static int getMode(int measureSpec) {
+            return measureSpec & MODE_MASK;
+        }
+
+        public static int getSize(int measureSpec) {
+            return measureSpec & ~MODE_MASK;
+        }
+    }
+
+    private static final ViewParent NO_PARENT = new ViewParent() {
+        @Override
+        public void requestDisallowInterceptTouchEvent(boolean disallowIntercept) {
+        }
+    };
+
+    private final Context mContext;
+    private int mWidth;
+    private int mHeight;
+    private boolean mEnabled = true;
+    private int mInvalidateCount;
+    private final Rect mInvalidateRect = new Rect();
+    private final List<Runnable> mAnimationCallbacks = new ArrayList<>();
+
+    public View(Context context, AttributeSet attrs, int defStyleAttr) {
+        mContext = context;
+    }
+
+    public Context getContext() {
+        return mContext;
+    }
+
+    public void measure(int widthMeasureSpec, int heightMeasureSpec) {
+        onMeasure(widthMeasureSpec, heightMeasureSpec);
+    }
+
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+    }
+
+    protected final void setMeasuredDimension(int measuredWidth, int measuredHeight) {
+        mWidth = measuredWidth;
+        mHeight = measuredHeight;
+    }
+
+    public void draw(Canvas canvas) {
+        onDraw(canvas);
+    }
+
+    protected void onDraw(Canvas canvas) {
+    }
+
+    protected void onAttachedToWindow() {
+    }
+
+    protected void onDetachedFromWindow() {
+    }
+
+    public boolean onTouchEvent(MotionEvent event) {
+        return false;
+    }
+
+    public void scrollBy(int x, int y) {
+    }
+
+    public void computeScroll() {
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    public ViewParent getParent() {
+        return NO_PARENT;
+    }
+
+    public void invalidate() {
+        invalidate(0, 0, mWidth, mHeight);
+    }
+
+    public void invalidate(int l, int t, int r, int b) {
+        mInvalidateCount++;
+        mInvalidateRect.set(l, t, r, b);
+    }
+
+    public void postInvalidate() {
+        invalidate();
+    }
+
+    public boolean post(Runnable action) {
+        synchronized (mAnimationCallbacks) {
+            mAnimationCallbacks.add(action);
+        }
+        return true;
+    }
+
+    public void postOnAnimation(Runnable action) {
+        synchronized (mAnimationCallbacks) {
+            mAnimationCallbacks.add(action);
+        }
+    }
+
+    public boolean removeCallbacks(Runnable action) {
+        synchronized (mAnimationCallbacks) {
+            return mAnimationCallbacks.remove(action);
+        }
+    }
+
+    /**
+     * Runs the callbacks posted so far, from any thread, as the next frame
+     * would. For the benchmarks only.
+     */
+    public void runAnimationCallbacks() {
+        List<Runnable> callbacks;
+        synchronized (mAnimationCallbacks) {
+            callbacks = new ArrayList<>(mAnimationCallbacks);
+            mAnimationCallbacks.clear();
+        }
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Number of invalidate calls so far, for the benchmarks only.
+     */
+    public int getInvalidateCount() {
+        return mInvalidateCount;
+    }
+
+    /**
+     * The area of the last invalidate call, for the benchmarks only.
+     */
+    public Rect getInvalidateRect() {
+        Rect rect = new Rect();
+        rect.set(mInvalidateRect.left, mInvalidateRect.top, mInvalidateRect.right, mInvalidateRect.bottom);
+        return rect;
+    }
+
+    /**
+     * For the benchmarks only.
+     *
+     * @return true if callbacks are waiting for the next frame
+     */
+    public boolean hasAnimationCallbacks() {
+        synchronized (mAnimationCallbacks) {
+            return !mAnimationCallbacks.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * JVM shim of {@code android.view.ViewConfiguration} with mdpi defaults.
+ **/
+public class ViewConfiguration {
+
+    private static final ViewConfiguration DEFAULT = new ViewConfiguration();
+
+    public static ViewConfiguration get(Context context) {
+        return DEFAULT;
+    }
+
+    public static float getScrollFriction() {
+        return 0.015f;
+    }
+
+    public int getScaledTouchSlop() {
+        return 8;
+    }
+
+    public int getScaledMinimumFlingVelocity() {
+        return 50;
+    }
+
+    public int getScaledMaximumFlingVelocity() {
+        return 8000;
+    }
+}
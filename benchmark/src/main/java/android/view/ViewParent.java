@@ -0,0 +1,8 @@
+package android.view;
+
+/**
+ * JVM shim of {@code android.view.ViewParent}.
+ **/
+public interface ViewParent {
+    void requestDisallowInterceptTouchEvent(boolean disallowIntercept);
+}
@@ -0,0 +1,13 @@
+package android.view.animation;
+
+import android.os.SystemClock;
+
+/**
+ * JVM shim of {@code android.view.animation.AnimationUtils}.
+ **/
+public class AnimationUtils {
+
+    public static long currentAnimationTimeMillis() {
+        return SystemClock.uptimeMillis();
+    }
+}
@@ -0,0 +1,25 @@
+package android.view.animation;
+
+/**
+ * JVM shim of {@code android.view.animation.DecelerateInterpolator}.
+ **/
+public class DecelerateInterpolator implements Interpolator {
+
+    private final float mFactor;
+
+    public DecelerateInterpolator() {
+        this(1f);
+    }
+
+    public DecelerateInterpolator(float factor) {
+        mFactor = factor;
+    }
+
+    @Override
+    public float getInterpolation(float input) {
+        if (mFactor == 1f) {
+            return 1f - (1f - input) * (1f - input);
+        }
+        return (float) (1f - Math.pow(1f - input, 2 * mFactor));
+    }
+}
@@ -0,0 +1,8 @@
+package android.view.animation;
+
+/**
+ * JVM shim of {@code android.view.animation.Interpolator}.
+ **/
+public interface Interpolator {
+    float getInterpolation(float input);
+}
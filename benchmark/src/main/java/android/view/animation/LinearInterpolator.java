@@ -0,0 +1,12 @@
+package android.view.animation;
+
+/**
+ * JVM shim of {@code android.view.animation.LinearInterpolator}.
+ **/
+public class LinearInterpolator implements Interpolator {
+
+    @Override
+    public float getInterpolation(float input) {
+        return input;
+    }
+}
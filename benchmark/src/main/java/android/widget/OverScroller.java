@@ -0,0 +1,138 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
+
+/**
+ * JVM shim of {@code android.widget.OverScroller}, advanced by the
+ * {@code SystemClock} shim.
+ * <p>
+ * Flings decelerate at a constant rate, like the classic {@code Scroller}
+ * at mdpi. Scrolls follow the interpolator given to the constructor.
+ **/
+public class OverScroller {
+
+    private static final int DEFAULT_DURATION = 250;
+    private static final float DECELERATION = 9.80665f * 39.37f * 160f * 0.015f;
+
+    private final Interpolator mInterpolator;
+    private boolean mFinished = true;
+    private boolean mFling;
+    private long mStartTime;
+    private int mDuration;
+    private int mStartX;
+    private int mStartY;
+    private int mFinalX;
+    private int mFinalY;
+    private int mCurrX;
+    private int mCurrY;
+    private float mVelocity;
+    private float mDirectionX;
+    private float mDirectionY;
+
+    public OverScroller(Context context) {
+        this(context, null);
+    }
+
+    public OverScroller(Context context, Interpolator interpolator) {
+        mInterpolator = interpolator;
+    }
+
+    public boolean isFinished() {
+        return mFinished;
+    }
+
+    public void forceFinished(boolean finished) {
+        mFinished = finished;
+    }
+
+    public boolean computeScrollOffset() {
+        if (mFinished) {
+            return false;
+        }
+        long elapsed = AnimationUtils.currentAnimationTimeMillis() - mStartTime;
+        if (elapsed >= mDuration) {
+            mCurrX = mFinalX;
+            mCurrY = mFinalY;
+            mFinished = true;
+            return true;
+        }
+        if (mFling) {
+            float t = elapsed / 1000f;
+            float distance = mVelocity * t - DECELERATION * t * t / 2;
+            mCurrX = clamp(mStartX + Math.round(distance * mDirectionX), mStartX, mFinalX);
+            mCurrY = clamp(mStartY + Math.round(distance * mDirectionY), mStartY, mFinalY);
+        } else {
+            float input = elapsed / (float) mDuration;
+            float fraction = mInterpolator == null ? input : mInterpolator.getInterpolation(input);
+            mCurrX = mStartX + Math.round(fraction * (mFinalX - mStartX));
+            mCurrY = mStartY + Math.round(fraction * (mFinalY - mStartY));
+        }
+        return true;
+    }
+
+    private static int clamp(int value, int start, int end) {
+        return Math.max(Math.min(start, end), Math.min(Math.max(start, end), value));
+    }
+
+    public int getCurrX() {
+        return mCurrX;
+    }
+
+    public int getCurrY() {
+        return mCurrY;
+    }
+
+    public int getStartX() {
+        return mStartX;
+    }
+
+    public int getStartY() {
+        return mStartY;
+    }
+
+    public int getFinalX() {
+        return mFinalX;
+    }
+
+    public int getFinalY() {
+        return mFinalY;
+    }
+
+    public void fling(int startX, int startY, int velocityX, int velocityY,
+                      int minX, int maxX, int minY, int maxY) {
+        float velocity = (float) Math.hypot(velocityX, velocityY);
+        mFling = true;
+        mFinished = false;
+        mStartTime = AnimationUtils.currentAnimationTimeMillis();
+        mVelocity = velocity;
+        mDuration = (int) (1000 * velocity / DECELERATION);
+        mDirectionX = velocity == 0 ? 0 : velocityX / velocity;
+        mDirectionY = velocity == 0 ? 0 : velocityY / velocity;
+        float distance = velocity * velocity / (2 * DECELERATION);
+        mStartX = startX;
+        mStartY = startY;
+        mCurrX = startX;
+        mCurrY = startY;
+        mFinalX = Math.max(minX, Math.min(maxX, startX + Math.round(distance * mDirectionX)));
+        mFinalY = Math.max(minY, Math.min(maxY, startY + Math.round(distance * mDirectionY)));
+    }
+
+    public void startScroll(int startX, int startY, int dx, int dy) {
+        startScroll(startX, startY, dx, dy, DEFAULT_DURATION);
+    }
+
+    public void startScroll(int startX, int startY, int dx, int dy, int duration) {
+        mFling = false;
+        mFinished = false;
+        mStartTime = AnimationUtils.currentAnimationTimeMillis();
+        mDuration = duration;
+        mStartX = startX;
+        mStartY = startY;
+        mCurrX = startX;
+        mCurrY = startY;
+        mFinalX = startX + dx;
+        mFinalY = startY + dy;
+    }
+}
@@ -0,0 +1,28 @@
+package com.rhino.wheel;
+
+/**
+ * JVM stand-in for the generated resource class of libWheelView.
+ **/
+public final class R {
+
+    public static final class styleable {
+        public static final int[] WheelView = new int[17];
+        public static final int WheelView_orientation = 0;
+        public static final int WheelView_item_vertical_height = 1;
+        public static final int WheelView_item_min_alpha_value = 2;
+        public static final int WheelView_item_text_size = 3;
+        public static final int WheelView_item_text_color = 4;
+        public static final int WheelView_item_select_text_color = 5;
+        public static final int WheelView_item_label_text_color = 6;
+        public static final int WheelView_item_select_line_enable = 7;
+        public static final int WheelView_item_select_line_length_scale = 8;
+        public static final int WheelView_item_select_line_width = 9;
+        public static final int WheelView_item_select_line_color = 10;
+        public static final int WheelView_item_cyclic_enable = 11;
+        public static final int WheelView_item_visible_count = 12;
+        public static final int WheelView_min_value = 13;
+        public static final int WheelView_max_value = 14;
+        public static final int WheelView_value = 15;
+        public static final int WheelView_label = 16;
+    }
+}
@@ -0,0 +1,130 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Replays a {@link TouchTrace} on a wheel with a fake frame clock: events are
+ * dispatched at their recorded times, the moves since the last frame batched
+ * into one event as the input system does, and every 16 ms frame runs the posted
+ * animation callbacks, then {@code computeScroll} and {@code draw} if the
+ * wheel was invalidated, the way the view would be driven on a device.
+ **/
+final class TouchTracePlayer {
+
+    static final long FRAME_MILLIS = 16;
+    static final int MAX_SETTLE_FRAMES = 10000;
+    static final long START_TIME_MILLIS = 1000000;
+
+    private TouchTracePlayer() {
+    }
+
+    static final class Result {
+        private final int[] mValues;
+        private final int mFrameCount;
+        private final int mFramesToSettle;
+        private final boolean mSettled;
+
+        Result(int[] values, int frameCount, int framesToSettle, boolean settled) {
+            this.mValues = values;
+            this.mFrameCount = frameCount;
+            this.mFramesToSettle = framesToSettle;
+            this.mSettled = settled;
+        }
+
+        /**
+         * @return the value of the wheel after every frame
+         */
+        int[] getValueTrajectory() {
+            return mValues.clone();
+        }
+
+        int getFrameCount() {
+            return mFrameCount;
+        }
+
+        /**
+         * @return the frames from the last event until the wheel stopped
+         * animating
+         */
+        int getFramesToSettle() {
+            return mFramesToSettle;
+        }
+
+        boolean isSettled() {
+            return mSettled;
+        }
+
+        int getFinalValue() {
+            return mValues.length == 0 ? 0 : mValues[mValues.length - 1];
+        }
+    }
+
+    static TouchTrace loadTrace(String name) throws IOException {
+        InputStream in = TouchTracePlayer.class.getResourceAsStream("/traces/" + name);
+        if (null == in) {
+            throw new IOException("no trace named " + name);
+        }
+        try {
+            return TouchTrace.read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } finally {
+            in.close();
+        }
+    }
+
+    static Result play(WheelView wheelView, TouchTrace trace) {
+        Canvas canvas = new Canvas();
+        int eventCount = trace.size();
+        long lastEventTime = eventCount == 0 ? 0 : trace.get(eventCount - 1).time;
+        int[] values = new int[(int) (lastEventTime / FRAME_MILLIS) + MAX_SETTLE_FRAMES + 2];
+        int frame = 0;
+        int nextEvent = 0;
+        int settleFrames = 0;
+        boolean settled = false;
+        int drawnInvalidateCount = -1;
+        while (frame < values.length) {
+            long frameTime = frame * FRAME_MILLIS;
+            while (nextEvent < eventCount && trace.get(nextEvent).time <= frameTime) {
+                TouchTrace.Event event = trace.get(nextEvent++);
+                MotionEvent motionEvent = MotionEvent.obtain(START_TIME_MILLIS, START_TIME_MILLIS + event.time,
+                        event.action, event.x, event.y, 0);
+                while (event.action == MotionEvent.ACTION_MOVE && nextEvent < eventCount
+                        && trace.get(nextEvent).action == MotionEvent.ACTION_MOVE
+                        && trace.get(nextEvent).time <= frameTime) {
+                    event = trace.get(nextEvent++);
+                    motionEvent.addBatch(START_TIME_MILLIS + event.time, event.x, event.y, 1f, 1f, 0);
+                }
+                SystemClock.setCurrentTimeMillis(START_TIME_MILLIS + event.time);
+                wheelView.onTouchEvent(motionEvent);
+                motionEvent.recycle();
+            }
+            SystemClock.setCurrentTimeMillis(START_TIME_MILLIS + frameTime);
+            wheelView.runAnimationCallbacks();
+            if (wheelView.getInvalidateCount() != drawnInvalidateCount) {
+                drawnInvalidateCount = wheelView.getInvalidateCount();
+                wheelView.computeScroll();
+                wheelView.draw(canvas);
+            }
+            values[frame++] = wheelView.getValue();
+            // The frame is the last one once nothing asked for another.
+            boolean dirty = wheelView.getInvalidateCount() != drawnInvalidateCount
+                    || wheelView.hasAnimationCallbacks();
+            if (nextEvent == eventCount) {
+                if (!dirty) {
+                    settled = true;
+                    break;
+                }
+                settleFrames++;
+            }
+        }
+        int[] trajectory = new int[frame];
+        System.arraycopy(values, 0, trajectory, 0, frame);
+        return new Result(trajectory, frame, settleFrames, settled);
+    }
+}
@@ -0,0 +1,78 @@
+package com.rhino.wheel;
+
+import android.content.Context;
+import android.view.MotionEvent;
+import android.view.View.MeasureSpec;
+
+/**
+ * Builds measured wheels for the benchmarks and the tests, and feeds them
+ * single finger touch events.
+ **/
+final class WheelFixture {
+
+    static final int ORIENTATION_VERTICAL = 1;
+    static final int VIEW_WIDTH = 300;
+    static final int VIEW_HEIGHT = 280;
+    static final int ITEM_HEIGHT = 40;
+    static final int VISIBLE_COUNT = 7;
+
+    private WheelFixture() {
+    }
+
+    /**
+     * A vertical, cyclic wheel over {@code [1, range]} laid out like the demo.
+     */
+    static WheelView newVerticalWheel(int range) {
+        WheelView wheelView = newWheel(range, true, 1);
+        wheelView.setItemMinAlpha(0.1f);
+        return wheelView;
+    }
+
+    /**
+     * A vertical wheel over {@code [1, range]} showing {@code value}, in a
+     * view of the default size.
+     */
+    static WheelView newWheel(int range, boolean cyclic, int value) {
+        return newWheel(range, cyclic, value, VIEW_HEIGHT);
+    }
+
+    /**
+     * A vertical wheel over {@code [1, range]} showing {@code value}, in a
+     * view {@code viewHeight} pixels high.
+     */
+    static WheelView newWheel(int range, boolean cyclic, int value, int viewHeight) {
+        WheelView wheelView = new WheelView(new Context());
+        wheelView.setOrientation(ORIENTATION_VERTICAL);
+        wheelView.setItemTextSize(30);
+        wheelView.setItemVerticalHeight(ITEM_HEIGHT);
+        wheelView.setItemVisibleCount(VISIBLE_COUNT);
+        wheelView.setMinValue(1);
+        wheelView.setMaxValue(range);
+        wheelView.setItemCyclicEnable(cyclic);
+        wheelView.setValue(value);
+        wheelView.measure(MeasureSpec.makeMeasureSpec(VIEW_WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(viewHeight, MeasureSpec.EXACTLY));
+        return wheelView;
+    }
+
+    /**
+     * Dispatches a single finger event at {@code y}, in the middle of the
+     * view across.
+     */
+    static void touch(WheelView wheelView, int action, long time, float y) {
+        MotionEvent event = MotionEvent.obtain(0, time, action, VIEW_WIDTH / 2, y, 0);
+        wheelView.onTouchEvent(event);
+        event.recycle();
+    }
+
+    /**
+     * Displayed values of {@code [1, range]}, every 97th one made wider.
+     */
+    static String[] newDisplayedValues(int range) {
+        String[] values = new String[range];
+        for (int i = 0; i < range; i++) {
+            values[i] = i % 97 == 0 ? "Item " + (i + 1) : String.valueOf(i + 1);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,89 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link WheelView#setDisplayedValuesAsync(String[], Executor)}
+ * keeps the old items until the new ones are measured.
+ */
+public class AsyncContentTest {
+
+    private final Deque<Runnable> mJobs = new ArrayDeque<>();
+    private final Executor mExecutor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            mJobs.add(command);
+        }
+    };
+
+    private static String[] newValues(String prefix, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = prefix + i;
+        }
+        return values;
+    }
+
+    @Test
+    public void setDisplayedValuesAsync_keepsOldItemsUntilPublished() {
+        WheelView wheelView = WheelFixture.newWheel(10, true, 1);
+        WheelAdapter oldAdapter = wheelView.getAdapter();
+        wheelView.setDisplayedValuesAsync(newValues("a", 20000), mExecutor);
+        assertSame(oldAdapter, wheelView.getAdapter());
+        assertEquals(10, wheelView.getMaxValue());
+
+        mJobs.poll().run();
+        assertSame(oldAdapter, wheelView.getAdapter());
+        wheelView.runAnimationCallbacks();
+        assertEquals(20000, wheelView.getMaxValue());
+        assertEquals("a0", wheelView.ensureCachedScrollSelectorValue(1).toString());
+    }
+
+    @Test
+    public void setDisplayedValuesAsync_latestContentWins() {
+        WheelView wheelView = WheelFixture.newWheel(10, true, 1);
+        wheelView.setDisplayedValuesAsync(newValues("a", 30), mExecutor);
+        wheelView.setDisplayedValuesAsync(newValues("b", 40), mExecutor);
+        mJobs.pollLast().run();
+        mJobs.pollLast().run();
+        wheelView.runAnimationCallbacks();
+        assertEquals(40, wheelView.getMaxValue());
+        assertEquals("b0", wheelView.ensureCachedScrollSelectorValue(1).toString());
+    }
+
+    @Test
+    public void setDisplayedValues_dropsPendingAsyncContent() {
+        WheelView wheelView = WheelFixture.newWheel(10, true, 1);
+        wheelView.setDisplayedValuesAsync(newValues("a", 30), mExecutor);
+        wheelView.setDisplayedValues(newValues("b", 40));
+        mJobs.poll().run();
+        wheelView.runAnimationCallbacks();
+        assertEquals(40, wheelView.getMaxValue());
+        assertEquals("b0", wheelView.ensureCachedScrollSelectorValue(1).toString());
+    }
+
+    @Test
+    public void setDisplayedValuesAsync_measuresOnWorkerThread() throws InterruptedException {
+        WheelView wheelView = WheelFixture.newWheel(10, true, 1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            wheelView.setDisplayedValuesAsync(newValues("item ", 50000), executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        wheelView.runAnimationCallbacks();
+        assertEquals(50000, wheelView.getMaxValue());
+    }
+}
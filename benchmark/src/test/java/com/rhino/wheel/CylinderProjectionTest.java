@@ -0,0 +1,139 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.view.View.MeasureSpec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the tables of {@link CylinderProjection} and a wheel drawn with it.
+ */
+public class CylinderProjectionTest {
+
+    private static final float DELTA = 1e-4f;
+
+    /**
+     * 7 items of 40 around y 140 of a 300 wide vertical wheel.
+     */
+    private static CylinderProjection newProjection() {
+        return new CylinderProjection(true, 140, 280, 150, 0.1f, 0, 280);
+    }
+
+    private static float[] map(Matrix matrix, float... points) {
+        matrix.mapPoints(points);
+        return points;
+    }
+
+    @Test
+    public void center_isDrawnAsIs() {
+        CylinderProjection projection = newProjection();
+        assertEquals(140, projection.getDrawCoor(140));
+        assertEquals(1f, projection.getAlpha(140), DELTA);
+        float[] corners = map(projection.getMatrix(140), 100, 125, 200, 155);
+        assertEquals(100, corners[0], DELTA);
+        assertEquals(125, corners[1], DELTA);
+        assertEquals(200, corners[2], DELTA);
+        assertEquals(155, corners[3], DELTA);
+    }
+
+    @Test
+    public void items_bunchUpTowardTheEnds() {
+        CylinderProjection projection = newProjection();
+        int previous = projection.getDrawCoor(140);
+        int previousStep = Integer.MAX_VALUE;
+        for (int coor = 180; coor < 280; coor += 40) {
+            int step = projection.getDrawCoor(coor) - previous;
+            assertTrue(step > 0 && step < previousStep);
+            assertEquals(140 - (projection.getDrawCoor(coor) - 140), projection.getDrawCoor(280 - coor));
+            previous = projection.getDrawCoor(coor);
+            previousStep = step;
+        }
+    }
+
+    @Test
+    public void pastQuarterTurn_isHidden() {
+        CylinderProjection projection = newProjection();
+        int radius = Math.round(280 / (float) Math.PI);
+        assertEquals(0f, projection.getAlpha(0), DELTA);
+        assertEquals(0f, projection.getAlpha(-50), DELTA);
+        assertEquals(140 - radius, projection.getDrawCoor(0));
+        assertEquals(140 + radius, projection.getDrawCoor(400));
+        assertTrue(projection.getAlpha(20) > 0.1f);
+    }
+
+    @Test
+    public void itemAboveCenter_leansAway() {
+        CylinderProjection projection = newProjection();
+        int y = projection.getDrawCoor(80);
+        float[] corners = map(projection.getMatrix(80), 100, y - 15, 200, y - 15, 100, y + 15, 200, y + 15);
+        float topWidth = corners[2] - corners[0];
+        float bottomWidth = corners[6] - corners[4];
+        assertTrue(topWidth < bottomWidth);
+        // Foreshortened along y, but still centered on the draw coordinate.
+        assertTrue(corners[5] - corners[1] < 30);
+        assertTrue(corners[1] < y && corners[5] > y);
+    }
+
+    @Test
+    public void matrix_isReusedWithTheValuesOfEachItem() {
+        CylinderProjection projection = newProjection();
+        float[] center = new float[9];
+        projection.getMatrix(140).getValues(center);
+        float[] above = new float[9];
+        assertSame(projection.getMatrix(140), projection.getMatrix(80));
+        projection.getMatrix(80).getValues(above);
+        assertTrue(above[Matrix.MPERSP_1] != center[Matrix.MPERSP_1]);
+        float[] again = new float[9];
+        projection.getMatrix(140).getValues(again);
+        assertEquals(center[Matrix.MPERSP_1], again[Matrix.MPERSP_1], 0f);
+        assertEquals(center[Matrix.MTRANS_Y], again[Matrix.MTRANS_Y], 0f);
+    }
+
+    @Test
+    public void wheel_keepsTheTableWhenTheLayoutIsUnchanged() {
+        WheelView wheelView = newWheel(true);
+        CylinderProjection projection = wheelView.getCylinderProjection();
+        wheelView.measure(MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_HEIGHT, MeasureSpec.EXACTLY));
+        assertSame(projection, wheelView.getCylinderProjection());
+        wheelView.setItemMinAlpha(0.5f);
+        assertNotSame(projection, wheelView.getCylinderProjection());
+        projection = wheelView.getCylinderProjection();
+        wheelView.measure(MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_HEIGHT + 40, MeasureSpec.EXACTLY));
+        assertNotSame(projection, wheelView.getCylinderProjection());
+    }
+
+    private static WheelView newWheel(boolean cylinder) {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        wheelView.setItemCylinderEnable(cylinder);
+        return wheelView;
+    }
+
+    @Test
+    public void wheel_restoresCanvasAfterEachItem() {
+        WheelView wheelView = newWheel(true);
+        assertTrue(wheelView.isItemCylinderEnable());
+        Canvas canvas = new Canvas();
+        for (int i = 0; i < 20; i++) {
+            wheelView.scrollBy(0, 7);
+            wheelView.draw(canvas);
+            assertEquals(1, canvas.getSaveCount());
+        }
+    }
+
+    @Test
+    public void wheel_scrollsTheSameAsFlat() throws IOException {
+        TouchTrace trace = TouchTracePlayer.loadTrace("fling_down.trace");
+        assertEquals(TouchTracePlayer.play(newWheel(false), trace).getFinalValue(),
+                TouchTracePlayer.play(newWheel(true), trace).getFinalValue());
+    }
+}
@@ -0,0 +1,153 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.os.Build;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the item fade toward the ends of the wheel: the alpha of every item
+ * in the default mode, and the gradient mask in the shader mode.
+ */
+public class ItemFadeTest {
+
+    /**
+     * Records the alpha of every item and the paint and overload of every
+     * fade mask.
+     */
+    private static final class RecordingCanvas extends Canvas {
+        final List<Integer> mTextAlphas = new ArrayList<>();
+        Paint mRectPaint;
+        int mLayerCount;
+        int mFlaggedLayerCount;
+
+        @Override
+        public int saveLayer(float left, float top, float right, float bottom, Paint paint) {
+            mLayerCount++;
+            return super.saveLayer(left, top, right, bottom, paint);
+        }
+
+        @Override
+        public int saveLayer(float left, float top, float right, float bottom, Paint paint, int saveFlags) {
+            mFlaggedLayerCount++;
+            return super.saveLayer(left, top, right, bottom, paint, saveFlags);
+        }
+
+        @Override
+        public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+            mTextAlphas.add(paint.getAlpha());
+        }
+
+        @Override
+        public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+            mTextAlphas.add(paint.getAlpha());
+        }
+
+        @Override
+        public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+            mRectPaint = paint;
+        }
+    }
+
+    /**
+     * A wheel built without attributes has no item colors, only the
+     * unselected one can be set.
+     */
+    private static WheelView newWheel() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        wheelView.setItemTextColor(Color.BLACK);
+        wheelView.setItemMinAlpha(0.2f);
+        return wheelView;
+    }
+
+    private static RecordingCanvas draw(WheelView wheelView) {
+        RecordingCanvas canvas = new RecordingCanvas();
+        wheelView.draw(canvas);
+        return canvas;
+    }
+
+    /**
+     * Checks that the alphas rise to full at the middle and fall back to
+     * about {@code endAlpha} at both ends, alike up to a pixel of sampling.
+     */
+    private static void assertFadesFromTheMiddle(int[] alphas, int endAlpha) {
+        int middle = alphas.length / 2;
+        assertEquals(255, alphas[middle]);
+        for (int i = 0; i < middle; i++) {
+            assertTrue("rises at " + i, alphas[i] < alphas[i + 1]);
+            assertTrue("falls at " + i, alphas[alphas.length - 1 - i] < alphas[alphas.length - 2 - i]);
+            assertEquals(alphas[i], alphas[alphas.length - 1 - i], 3);
+        }
+        assertEquals(endAlpha, alphas[0], 26);
+    }
+
+    @Test
+    public void perItem_fadesTowardTheEnds() {
+        WheelView wheelView = newWheel();
+        List<Integer> textAlphas = draw(wheelView).mTextAlphas;
+        assertEquals(WheelFixture.VISIBLE_COUNT, textAlphas.size());
+        int[] alphas = new int[textAlphas.size()];
+        for (int i = 0; i < alphas.length; i++) {
+            alphas[i] = textAlphas.get(i);
+        }
+        assertFadesFromTheMiddle(alphas, 51);
+    }
+
+    @Test
+    public void shader_drawsOpaqueItemsUnderTheMask() {
+        WheelView wheelView = newWheel();
+        wheelView.setItemFadeShaderEnable(true);
+        RecordingCanvas canvas = draw(wheelView);
+        List<Integer> textAlphas = canvas.mTextAlphas;
+        assertEquals(WheelFixture.VISIBLE_COUNT, textAlphas.size());
+        for (int i = 0; i < textAlphas.size(); i++) {
+            if (i != WheelFixture.VISIBLE_COUNT / 2) {
+                assertEquals(255, (int) textAlphas.get(i));
+            }
+        }
+
+        LinearGradient gradient = (LinearGradient) canvas.mRectPaint.getShader();
+        float[] positions = gradient.getPositions();
+        int[] colors = gradient.getColors();
+        assertEquals(colors.length, positions.length);
+        assertEquals(0f, positions[0], 0f);
+        assertEquals(1f, positions[positions.length - 1], 0f);
+        int[] alphas = new int[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            alphas[i] = colors[i] >>> 24;
+            if (i > 0) {
+                assertTrue(positions[i] > positions[i - 1]);
+            }
+        }
+        assertFadesFromTheMiddle(alphas, 51);
+    }
+
+    @Test
+    public void shader_savesTheLayerWithoutFlagsFromLollipop() {
+        WheelView wheelView = newWheel();
+        wheelView.setItemFadeShaderEnable(true);
+        int savedSdkInt = Build.VERSION.SDK_INT;
+        try {
+            Build.VERSION.SDK_INT = Build.VERSION_CODES.LOLLIPOP;
+            RecordingCanvas canvas = draw(wheelView);
+            assertEquals(1, canvas.mLayerCount);
+            assertEquals(0, canvas.mFlaggedLayerCount);
+
+            Build.VERSION.SDK_INT = Build.VERSION_CODES.KITKAT;
+            canvas = draw(wheelView);
+            assertEquals(0, canvas.mLayerCount);
+            assertEquals(1, canvas.mFlaggedLayerCount);
+        } finally {
+            Build.VERSION.SDK_INT = savedSdkInt;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.rhino.wheel;
+
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.os.Build;
+import android.view.MotionEvent;
+import android.view.View.MeasureSpec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the wheel only asks for a redraw when its items moved, and
+ * below Lollipop only for the part of the view they are drawn in.
+ */
+public class RedrawElisionTest {
+
+    private static Rect scrollAt(WheelView wheelView, int sdkInt) {
+        int savedSdkInt = Build.VERSION.SDK_INT;
+        Build.VERSION.SDK_INT = sdkInt;
+        try {
+            wheelView.scrollBy(10, 10);
+            return wheelView.getInvalidateRect();
+        } finally {
+            Build.VERSION.SDK_INT = savedSdkInt;
+        }
+    }
+
+    @Test
+    public void scroll_invalidatesItemBandOnlyBeforeLollipop() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500, 600);
+        Rect rect = scrollAt(wheelView, Build.VERSION_CODES.KITKAT);
+        // 7 items of 40 centered in 600, with one item of slack each side.
+        assertEquals(120, rect.top);
+        assertEquals(480, rect.bottom);
+        assertEquals(300, rect.width());
+    }
+
+    @Test
+    public void scroll_invalidatesTheViewFromLollipop() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500, 600);
+        Rect rect = scrollAt(wheelView, Build.VERSION_CODES.LOLLIPOP);
+        assertEquals(0, rect.top);
+        assertEquals(600, rect.bottom);
+    }
+
+    @Test
+    public void horizontalBand_followsTheTextSize() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        wheelView.setOrientation(0);
+        wheelView.measure(MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_WIDTH, MeasureSpec.EXACTLY),
+                MeasureSpec.makeMeasureSpec(WheelFixture.VIEW_HEIGHT, MeasureSpec.EXACTLY));
+        wheelView.setItemTextSize(50);
+        Rect rect = scrollAt(wheelView, Build.VERSION_CODES.KITKAT);
+        assertEquals(WheelFixture.VIEW_HEIGHT / 2 - 50, rect.top);
+        assertEquals(WheelFixture.VIEW_HEIGHT / 2 + 50, rect.bottom);
+    }
+
+    @Test
+    public void dragPastEnd_elidesRedraws() {
+        WheelView wheelView = WheelFixture.newWheel(1000, false, 1);
+        WheelMetrics metrics = new WheelMetrics();
+        wheelView.setWheelMetrics(metrics);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_DOWN, 0, 100);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 16, 120);
+        wheelView.draw(new Canvas());
+        int invalidateCount = wheelView.getInvalidateCount();
+        for (int i = 1; i <= 10; i++) {
+            WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 16 + i * 16, 120 + i * 10);
+        }
+        assertEquals(invalidateCount, wheelView.getInvalidateCount());
+        assertEquals(10, metrics.getElidedFrameCount());
+        assertEquals(1, wheelView.getValue());
+    }
+
+    @Test
+    public void flingIntoEnd_stopsAtTheEnd() throws IOException {
+        TouchTrace trace = TouchTracePlayer.loadTrace("fling_down.trace");
+        TouchTracePlayer.Result open = TouchTracePlayer.play(WheelFixture.newWheel(1000, false, 500), trace);
+        TouchTracePlayer.Result blocked = TouchTracePlayer.play(WheelFixture.newWheel(1000, false, 20), trace);
+        assertTrue(blocked.isSettled());
+        assertEquals(1, blocked.getFinalValue());
+        assertTrue(blocked.getFramesToSettle() < open.getFramesToSettle());
+    }
+
+    @Test
+    public void replay_drawsOnlyChangedFrames() throws IOException {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        WheelMetrics metrics = new WheelMetrics();
+        wheelView.setWheelMetrics(metrics);
+        TouchTracePlayer.Result result = TouchTracePlayer.play(wheelView,
+                TouchTracePlayer.loadTrace("drag_release.trace"));
+        assertTrue(result.isSettled());
+        assertTrue(metrics.getFrameCount() < result.getFrameCount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that a scroll crossing several items in one step still calls the
+ * value change listener once per item.
+ */
+public class ScrollStepTest {
+
+    private final List<String> mChanges = new ArrayList<>();
+
+    private WheelView newWheel(int range, boolean cyclic, int value) {
+        WheelView wheelView = WheelFixture.newWheel(range, cyclic, value);
+        wheelView.setOnValueChangedListener(new WheelView.OnValueChangeListener() {
+            @Override
+            public void onValueChange(WheelView picker, int oldVal, int newVal) {
+                mChanges.add(oldVal + "->" + newVal);
+            }
+        });
+        return wheelView;
+    }
+
+    @Test
+    public void scrollBy_notifiesEveryItemCrossed() {
+        WheelView wheelView = newWheel(1000, true, 500);
+        wheelView.scrollBy(0, -4 * WheelFixture.ITEM_HEIGHT);
+        assertEquals(504, wheelView.getValue());
+        assertEquals("[500->501, 501->502, 502->503, 503->504]", mChanges.toString());
+    }
+
+    @Test
+    public void scrollBy_notifiesAcrossTheWrap() {
+        WheelView wheelView = newWheel(10, true, 2);
+        wheelView.scrollBy(0, 3 * WheelFixture.ITEM_HEIGHT);
+        assertEquals(9, wheelView.getValue());
+        assertEquals("[2->1, 1->10, 10->9]", mChanges.toString());
+    }
+
+    @Test
+    public void scrollBy_longerThanTheWindow_notifiesEveryItem() {
+        WheelView wheelView = newWheel(1000, false, 500);
+        wheelView.scrollBy(0, -20 * WheelFixture.ITEM_HEIGHT);
+        assertEquals(520, wheelView.getValue());
+        assertEquals(20, mChanges.size());
+        assertEquals("500->501", mChanges.get(0));
+        assertEquals("519->520", mChanges.get(19));
+    }
+}
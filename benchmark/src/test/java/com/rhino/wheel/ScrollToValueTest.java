@@ -0,0 +1,115 @@
+package com.rhino.wheel;
+
+import android.os.SystemClock;
+import android.view.MotionEvent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link WheelView#scrollToValue(int, boolean, long)} frame by frame.
+ */
+public class ScrollToValueTest {
+
+    private static final long DURATION_MILLIS = 300;
+
+    private final List<String> mChanges = new ArrayList<>();
+
+    private WheelView newWheel(int range, boolean cyclic, int value) {
+        WheelView wheelView = WheelFixture.newWheel(range, cyclic, value);
+        wheelView.setOnValueChangedListener(new WheelView.OnValueChangeListener() {
+            @Override
+            public void onValueChange(WheelView picker, int oldVal, int newVal) {
+                mChanges.add(oldVal + "->" + newVal);
+            }
+        });
+        wheelView.setOnValueChangeFinishListener(new WheelView.OnValueChangeFinishListener() {
+            @Override
+            public void onValueChange(WheelView picker, int value) {
+                mChanges.add("finish " + value);
+            }
+        });
+        return wheelView;
+    }
+
+    private static TouchTracePlayer.Result scrollTo(WheelView wheelView, int value) {
+        SystemClock.setCurrentTimeMillis(TouchTracePlayer.START_TIME_MILLIS);
+        wheelView.scrollToValue(value, true, DURATION_MILLIS);
+        TouchTracePlayer.Result result = TouchTracePlayer.play(wheelView, new TouchTrace());
+        assertTrue(result.isSettled());
+        return result;
+    }
+
+    @Test
+    public void scrollToValue_notifiesStartAndEndOnly() {
+        WheelView wheelView = newWheel(1000, true, 500);
+        TouchTracePlayer.Result result = scrollTo(wheelView, 520);
+        assertEquals(520, result.getFinalValue());
+        assertEquals("[500->520, finish 520]", mChanges.toString());
+    }
+
+    @Test
+    public void scrollToValue_takesBoundedFrames() {
+        int nearFrames = scrollTo(newWheel(1000000, true, 1), 4).getFrameCount();
+        TouchTracePlayer.Result far = scrollTo(newWheel(1000000, false, 1), 400000);
+        assertEquals(400000, far.getFinalValue());
+        assertEquals(nearFrames, far.getFrameCount());
+        // Only the last items before the target are scrolled through.
+        assertTrue(far.getValueTrajectory()[0] >= 400000 - 7);
+    }
+
+    @Test
+    public void scrollToValue_wrapsTheShortWay() {
+        WheelView wheelView = newWheel(1000, true, 10);
+        int[] values = scrollTo(wheelView, 990).getValueTrajectory();
+        for (int value : values) {
+            assertTrue("passed " + value, value <= 10 || value >= 990);
+        }
+        assertEquals(990, wheelView.getValue());
+        assertEquals("[10->990, finish 990]", mChanges.toString());
+    }
+
+    @Test
+    public void scrollToValue_wrapsValuesTurnsOutside() {
+        WheelView wheelView = newWheel(10, true, 1);
+        wheelView.scrollToValue(25, false, 0);
+        assertEquals(5, wheelView.getValue());
+        wheelView.scrollToValue(-16, false, 0);
+        assertEquals(4, wheelView.getValue());
+        assertEquals(7, scrollTo(wheelView, 37).getFinalValue());
+    }
+
+    @Test
+    public void scrollToValue_clampsWhenNotCyclic() {
+        WheelView wheelView = newWheel(1000, false, 10);
+        assertEquals(1, scrollTo(wheelView, -50).getFinalValue());
+        assertEquals("[10->1, finish 1]", mChanges.toString());
+    }
+
+    @Test
+    public void scrollToValue_withoutAnimationJumps() {
+        WheelView wheelView = newWheel(1000, true, 500);
+        wheelView.scrollToValue(800, false, DURATION_MILLIS);
+        assertEquals(800, wheelView.getValue());
+        assertEquals("[500->800, finish 800]", mChanges.toString());
+    }
+
+    @Test
+    public void touchDown_endsScrollToValue() {
+        WheelView wheelView = newWheel(1000, true, 500);
+        SystemClock.setCurrentTimeMillis(TouchTracePlayer.START_TIME_MILLIS);
+        wheelView.scrollToValue(900, true, DURATION_MILLIS);
+        TouchTrace trace = new TouchTrace();
+        trace.add(DURATION_MILLIS / 2, MotionEvent.ACTION_DOWN, 150, 140);
+        trace.add(DURATION_MILLIS / 2 + 50, MotionEvent.ACTION_UP, 150, 140);
+        int value = TouchTracePlayer.play(wheelView, trace).getFinalValue();
+        assertTrue(value > 893 && value <= 900);
+        assertEquals("500->", mChanges.get(0).substring(0, 5));
+        assertEquals("finish " + value, mChanges.get(mChanges.size() - 1));
+    }
+}
@@ -0,0 +1,90 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the binary search of {@link TextSizeFitter} against the linear
+ * search it replaced, and the bounds of its memo.
+ */
+public class TextSizeFitterTest {
+
+    private static final String[] TEXTS = {"1", "59", "2020", "Item 97", "30 min h", "\u6674\u6674\u6674"};
+    private static final int[] WIDTHS = {1, 5, 16, 17, 40, 99, 300, 1080};
+
+    @Before
+    public void clearCache() {
+        TextSizeFitter.clearCache();
+    }
+
+    /**
+     * The linear search of the first release: grows the size until the text
+     * is too wide, then shrinks it until it fits again below that.
+     */
+    private static int linearFitTextSize(int maxWidth, String text) {
+        Paint paint = new Paint();
+        int textSize = 1;
+        if (maxWidth <= 0 || text.isEmpty()) {
+            return 0;
+        }
+        for (; ; ) {
+            textSize++;
+            paint.setTextSize(textSize);
+            if ((int) paint.measureText(text) > maxWidth) {
+                textSize--;
+                for (; ; ) {
+                    textSize--;
+                    paint.setTextSize(textSize);
+                    if ((int) paint.measureText(text) <= maxWidth) {
+                        return textSize;
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fitTextSize_matchesTheLinearSearch() {
+        Paint paint = new Paint();
+        for (String text : TEXTS) {
+            for (int width : WIDTHS) {
+                assertEquals(text + " in " + width, linearFitTextSize(width, text),
+                        TextSizeFitter.fitTextSize(paint, width, text));
+            }
+        }
+        assertEquals(0, TextSizeFitter.fitTextSize(paint, 0, "59"));
+        assertEquals(0, TextSizeFitter.fitTextSize(paint, 100, ""));
+    }
+
+    @Test
+    public void cache_keepsTypefacesAndFlagsApart() {
+        Paint plain = new Paint();
+        Paint antiAlias = new Paint(Paint.ANTI_ALIAS_FLAG);
+        Paint typeface = new Paint();
+        typeface.setTypeface(Typeface.DEFAULT);
+
+        int textSize = TextSizeFitter.fitTextSize(plain, 120, "2020");
+        assertEquals(textSize, TextSizeFitter.fitTextSize(new Paint(), 120, "2020"));
+        assertEquals(1, TextSizeFitter.getCacheSize());
+        TextSizeFitter.fitTextSize(antiAlias, 120, "2020");
+        TextSizeFitter.fitTextSize(typeface, 120, "2020");
+        assertEquals(3, TextSizeFitter.getCacheSize());
+        TextSizeFitter.fitTextSize(plain, 121, "2020");
+        TextSizeFitter.fitTextSize(plain, 120, "2021");
+        assertEquals(5, TextSizeFitter.getCacheSize());
+    }
+
+    @Test
+    public void cache_staysBounded() {
+        Paint paint = new Paint();
+        for (int i = 0; i < TextSizeFitter.MAX_CACHE_SIZE * 2; i++) {
+            TextSizeFitter.fitTextSize(paint, 200, String.valueOf(i));
+        }
+        assertEquals(TextSizeFitter.MAX_CACHE_SIZE, TextSizeFitter.getCacheSize());
+    }
+}
@@ -0,0 +1,128 @@
+package com.rhino.wheel;
+
+import android.view.MotionEvent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Feeds hand made events to {@link WheelView#onTouchEvent(MotionEvent)}:
+ * sub pixel moves, batched samples, cancel and a second finger.
+ */
+public class TouchInputTest {
+
+    private static void touch(WheelView wheelView, int action, long time, float y0, float y1) {
+        MotionEvent.PointerCoords first = new MotionEvent.PointerCoords();
+        first.x = WheelFixture.VIEW_WIDTH / 2;
+        first.y = y0;
+        MotionEvent.PointerCoords second = new MotionEvent.PointerCoords();
+        second.x = WheelFixture.VIEW_WIDTH / 2;
+        second.y = y1;
+        MotionEvent event = MotionEvent.obtain(0, time, action, 2, new int[]{0, 1},
+                new MotionEvent.PointerCoords[]{first, second}, 0, 1f, 1f, 0, 0, 0, 0);
+        wheelView.onTouchEvent(event);
+        event.recycle();
+    }
+
+    /**
+     * Drags up from y 200 in moves of {@code step} pixels, every 8 ms.
+     */
+    private static WheelView drag(float step, int moves) {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_DOWN, 0, 200);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 8, 180);
+        for (int i = 1; i <= moves; i++) {
+            WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 8 + i * 8, 180 - i * step);
+        }
+        return wheelView;
+    }
+
+    @Test
+    public void subPixelMoves_addUp() {
+        WheelView halfPixels = drag(0.5f, 240);
+        WheelView wholePixels = drag(1f, 120);
+        assertEquals(503, wholePixels.getValue());
+        assertEquals(wholePixels.getValue(), halfPixels.getValue());
+    }
+
+    @Test
+    public void batchedSamples_scrollPastTheSlop() {
+        WheelView single = WheelFixture.newWheel(1000, true, 500);
+        WheelFixture.touch(single, MotionEvent.ACTION_DOWN, 0, 200);
+        for (int i = 1; i <= 8; i++) {
+            WheelFixture.touch(single, MotionEvent.ACTION_MOVE, i * 4, 200 - i * 15);
+        }
+
+        WheelView batched = WheelFixture.newWheel(1000, true, 500);
+        WheelFixture.touch(batched, MotionEvent.ACTION_DOWN, 0, 200);
+        MotionEvent event = MotionEvent.obtain(0, 4, MotionEvent.ACTION_MOVE, 150, 185, 0);
+        for (int i = 2; i <= 8; i++) {
+            event.addBatch(i * 4, 150, 200 - i * 15, 1f, 1f, 0);
+        }
+        batched.onTouchEvent(event);
+        event.recycle();
+
+        assertEquals(WheelView.OnScrollListener.SCROLL_STATE_TOUCH_SCROLL, batched.getScrollState());
+        assertTrue(batched.getValue() > 500);
+        assertEquals(single.getValue(), batched.getValue());
+    }
+
+    @Test
+    public void cancel_settlesOnAnItem() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_DOWN, 0, 200);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 16, 180);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 32, 130);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_CANCEL, 48, 130);
+        assertEquals(WheelView.OnScrollListener.SCROLL_STATE_IDLE, wheelView.getScrollState());
+        TouchTracePlayer.Result result = TouchTracePlayer.play(wheelView, new TouchTrace());
+        assertTrue(result.isSettled());
+        assertEquals(501, result.getFinalValue());
+    }
+
+    @Test
+    public void secondFinger_takesOverWithoutJump() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_DOWN, 0, 200);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 16, 180);
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 32, 140);
+        assertEquals(501, wheelView.getValue());
+
+        int pointerDown = MotionEvent.ACTION_POINTER_DOWN | 1 << MotionEvent.ACTION_POINTER_INDEX_SHIFT;
+        touch(wheelView, pointerDown, 48, 140, 20);
+        assertEquals(501, wheelView.getValue());
+        // Only the second finger moves the wheel now.
+        touch(wheelView, MotionEvent.ACTION_MOVE, 64, 300, 20);
+        assertEquals(501, wheelView.getValue());
+        touch(wheelView, MotionEvent.ACTION_MOVE, 80, 300, -60);
+        assertEquals(503, wheelView.getValue());
+
+        int pointerUp = MotionEvent.ACTION_POINTER_UP | 1 << MotionEvent.ACTION_POINTER_INDEX_SHIFT;
+        touch(wheelView, pointerUp, 96, 300, -60);
+        assertEquals(503, wheelView.getValue());
+        WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, 112, 220);
+        assertEquals(505, wheelView.getValue());
+    }
+
+    @Test
+    public void prediction_leadsTheFinger() {
+        WheelView following = WheelFixture.newWheel(1000, true, 500);
+        WheelView predicting = WheelFixture.newWheel(1000, true, 500);
+        predicting.setTouchPredictionMillis(16);
+        for (WheelView wheelView : new WheelView[]{following, predicting}) {
+            WheelFixture.touch(wheelView, MotionEvent.ACTION_DOWN, 0, 270);
+            for (int i = 1; i <= 10; i++) {
+                WheelFixture.touch(wheelView, MotionEvent.ACTION_MOVE, i * 16, 270 - i * 20);
+            }
+        }
+        assertTrue(predicting.getValue() > following.getValue());
+        assertTrue(predicting.getValue() - following.getValue() <= 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prediction_rejectsNegative() {
+        WheelFixture.newWheel(1000, true, 500).setTouchPredictionMillis(-1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Replays the recorded gestures in {@code src/main/resources/traces} and
+ * pins where the wheel comes to rest.
+ */
+public class TouchTraceReplayTest {
+
+    private static WheelView newWheel(boolean cyclic, boolean snap) {
+        WheelView wheelView = WheelFixture.newWheel(1000, cyclic, 500);
+        wheelView.setFlingSnapEnable(snap);
+        return wheelView;
+    }
+
+    private static TouchTracePlayer.Result replay(String trace, boolean cyclic) throws IOException {
+        return replay(trace, cyclic, false);
+    }
+
+    private static TouchTracePlayer.Result replay(String trace, boolean cyclic, boolean snap) throws IOException {
+        TouchTracePlayer.Result result = TouchTracePlayer.play(newWheel(cyclic, snap), TouchTracePlayer.loadTrace(trace));
+        assertTrue(trace + " did not settle", result.isSettled());
+        return result;
+    }
+
+    @Test
+    public void dragRelease_settlesOnNearestItem() throws IOException {
+        assertEquals(505, replay("drag_release.trace", true).getFinalValue());
+    }
+
+    @Test
+    public void flingDown_decreasesMonotonically() throws IOException {
+        TouchTracePlayer.Result result = replay("fling_down.trace", true);
+        int[] values = result.getValueTrajectory();
+        for (int i = 1; i < values.length; i++) {
+            assertTrue("value went up at frame " + i, values[i] <= values[i - 1]);
+        }
+        assertEquals(452, result.getFinalValue());
+    }
+
+    @Test
+    public void flingCatch_stopsWhereTapped() throws IOException {
+        assertEquals(522, replay("fling_catch.trace", true).getFinalValue());
+    }
+
+    @Test
+    public void snapFling_settlesInOneAnimation() throws IOException {
+        TouchTracePlayer.Result fling = replay("fling_down.trace", true);
+        TouchTracePlayer.Result snapped = replay("fling_down.trace", true, true);
+        assertEquals(444, snapped.getFinalValue());
+        assertTrue(snapped.getFramesToSettle() < fling.getFramesToSettle());
+        int[] values = snapped.getValueTrajectory();
+        for (int i = 1; i < values.length; i++) {
+            assertTrue("value went up at frame " + i, values[i] <= values[i - 1]);
+        }
+    }
+
+    @Test
+    public void snapFling_keepsDragsUnchanged() throws IOException {
+        assertArrayEquals(replay("drag_release.trace", true).getValueTrajectory(),
+                replay("drag_release.trace", true, true).getValueTrajectory());
+    }
+
+    @Test
+    public void replay_isDeterministic() throws IOException {
+        String[] traces = {"drag_release.trace", "fling_down.trace", "fling_catch.trace"};
+        for (String trace : traces) {
+            TouchTracePlayer.Result cyclic = replay(trace, true);
+            TouchTracePlayer.Result bounded = replay(trace, false);
+            assertArrayEquals(trace, cyclic.getValueTrajectory(), replay(trace, true).getValueTrajectory());
+            // Far from both ends, the cyclic and bounded wheels move the same way.
+            assertArrayEquals(trace, cyclic.getValueTrajectory(), bounded.getValueTrajectory());
+            assertEquals(trace, cyclic.getFramesToSettle(), bounded.getFramesToSettle());
+        }
+    }
+}
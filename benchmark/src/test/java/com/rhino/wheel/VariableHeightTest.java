@@ -0,0 +1,100 @@
+package com.rhino.wheel;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Scrolls wheels whose items differ in height.
+ */
+public class VariableHeightTest {
+
+    @Test
+    public void evenHeights_scrollLikeTheDefault() throws IOException {
+        WheelView plain = WheelFixture.newWheel(1000, true, 500);
+        WheelView even = WheelFixture.newWheel(1000, true, 500);
+        even.setItemHeight(1, 40);
+        TouchTrace trace = TouchTracePlayer.loadTrace("fling_down.trace");
+        assertArrayEquals(TouchTracePlayer.play(plain, trace).getValueTrajectory(),
+                TouchTracePlayer.play(even, trace).getValueTrajectory());
+    }
+
+    @Test
+    public void tallItem_takesLongerToScrollPast() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        wheelView.setItemHeight(498, 120);
+        List<Integer> changes = new ArrayList<>();
+        int value = wheelView.getValue();
+        for (int distance = 1; distance <= 200; distance++) {
+            wheelView.scrollBy(0, 1);
+            if (wheelView.getValue() != value) {
+                value = wheelView.getValue();
+                changes.add(distance);
+            }
+        }
+        // Each item is crossed half way between the centers of its neighbours.
+        assertEquals("[21, 61, 181]", changes.toString());
+        assertEquals(497, wheelView.getValue());
+    }
+
+    @Test
+    public void fling_crossesManyItemsInOneFrame() {
+        WheelView wheelView = WheelFixture.newWheel(100000, false, 500);
+        for (int value = 1; value <= 100000; value += 10) {
+            wheelView.setItemHeight(value, 80);
+        }
+        // 10 items take 9 * 40 + 80 = 440 pixels.
+        wheelView.scrollBy(0, -440 * 100);
+        assertEquals(1500, wheelView.getValue());
+    }
+
+    @Test
+    public void notCyclic_stopsAtTheEnds() {
+        WheelView wheelView = WheelFixture.newWheel(1000, false, 500);
+        wheelView.setItemHeight(1, 60);
+        wheelView.scrollBy(0, 1000000);
+        assertEquals(1, wheelView.getValue());
+        wheelView.scrollBy(0, -10000000);
+        assertEquals(1000, wheelView.getValue());
+    }
+
+    @Test
+    public void scrollToValue_landsOnTarget() {
+        WheelView wheelView = WheelFixture.newWheel(10000, true, 500);
+        for (int value = 1; value <= 10000; value += 3) {
+            wheelView.setItemHeight(value, 25 + value % 50);
+        }
+        SystemClock.setCurrentTimeMillis(TouchTracePlayer.START_TIME_MILLIS);
+        wheelView.scrollToValue(9000, true, 300);
+        TouchTracePlayer.Result result = TouchTracePlayer.play(wheelView, new TouchTrace());
+        assertTrue(result.isSettled());
+        assertEquals(9000, result.getFinalValue());
+    }
+
+    @Test
+    public void heights_droppedWithTheItemCount() {
+        WheelView wheelView = WheelFixture.newWheel(1000, true, 500);
+        wheelView.setItemHeight(10, 90);
+        assertEquals(90, wheelView.getItemHeight(10));
+        wheelView.setItemVerticalHeight(50);
+        assertEquals(90, wheelView.getItemHeight(10));
+        assertEquals(50, wheelView.getItemHeight(11));
+        wheelView.setMaxValue(900);
+        assertEquals(50, wheelView.getItemHeight(10));
+        wheelView.clearItemHeights();
+        assertEquals(50, wheelView.getItemHeight(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setItemHeight_rejectsValueOutOfRange() {
+        WheelFixture.newWheel(1000, true, 500).setItemHeight(1001, 40);
+    }
+}
@@ -0,0 +1,92 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link WheelView.Editor} lays the wheel out once.
+ */
+public class WheelEditorTest {
+
+    private static final String[] DISPLAYED_VALUES = {"5 min", "10 min", "30 min", "1 h", "2 h"};
+
+    private static WheelView newWheel(WheelMetrics metrics) {
+        WheelView wheelView = WheelFixture.newWheel(10, true, 1);
+        wheelView.setLabel("h");
+        wheelView.setWheelMetrics(metrics);
+        return wheelView;
+    }
+
+    private static void assertSameState(WheelView expected, WheelView actual) {
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getMinValue(), actual.getMinValue());
+        assertEquals(expected.getMaxValue(), actual.getMaxValue());
+        assertEquals(expected.getItemVisibleCount(), actual.getItemVisibleCount());
+        for (int i = expected.getMinValue(); i <= expected.getMaxValue(); i++) {
+            assertEquals(expected.ensureCachedScrollSelectorValue(i).toString(),
+                    actual.ensureCachedScrollSelectorValue(i).toString());
+        }
+    }
+
+    @Test
+    public void apply_laysOutOnce() {
+        WheelMetrics setterMetrics = new WheelMetrics();
+        WheelView setters = newWheel(setterMetrics);
+        setters.setLabel("");
+        setters.setDisplayedValues(DISPLAYED_VALUES);
+        setters.setItemVerticalHeight(60);
+        setters.setItemSelectLineLengthScale(0.5f);
+        assertTrue(setterMetrics.getLayoutPassCount() > 2);
+
+        WheelMetrics editMetrics = new WheelMetrics();
+        WheelView edited = newWheel(editMetrics);
+        edited.edit()
+                .setLabel("")
+                .setDisplayedValues(DISPLAYED_VALUES)
+                .setItemVerticalHeight(60)
+                .setItemSelectLineLengthScale(0.5f)
+                .apply();
+        assertEquals(1, editMetrics.getLayoutPassCount());
+        assertSameState(setters, edited);
+    }
+
+    @Test
+    public void edit_changesNothingBeforeApply() {
+        WheelMetrics metrics = new WheelMetrics();
+        WheelView wheelView = newWheel(metrics);
+        WheelView.Editor editor = wheelView.edit().setMaxValue(50).setValue(40);
+        assertEquals(10, wheelView.getMaxValue());
+        assertEquals(0, metrics.getLayoutPassCount());
+        editor.apply();
+        assertEquals(50, wheelView.getMaxValue());
+        assertEquals(40, wheelView.getValue());
+    }
+
+    @Test
+    public void apply_setsRangeInAnyOrder() {
+        WheelView setters = newWheel(null);
+        setters.setMaxValue(30);
+        setters.setMinValue(20);
+        setters.setValue(25);
+
+        // The min value is above the current max, which setMinValue alone rejects.
+        WheelView edited = newWheel(null);
+        edited.edit().setMinValue(20).setMaxValue(30).setValue(25).apply();
+        assertSameState(setters, edited);
+    }
+
+    @Test
+    public void apply_matchesSettersOnNumericWheel() {
+        WheelView setters = newWheel(null);
+        setters.setItemVisibleCount(5);
+        setters.setItemCyclicEnable(false);
+        setters.setMaxValue(100);
+        setters.setValue(77);
+
+        WheelView edited = newWheel(null);
+        edited.edit().setValue(77).setMaxValue(100).setItemCyclicEnable(false).setItemVisibleCount(5).apply();
+        assertSameState(setters, edited);
+    }
+}
@@ -0,0 +1,134 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Drives a year, month and day picker through {@link WheelGroup}, running
+ * the posted frame callbacks by hand.
+ */
+public class WheelGroupTest {
+
+    /**
+     * Year values count from 2020, a leap year. The last year only goes up
+     * to September.
+     */
+    private static final int FIRST_YEAR = 2019;
+    private static final int LAST_YEAR_VALUE = 10;
+    private static final int LAST_YEAR_MONTHS = 9;
+
+    private final WheelView mYear = WheelFixture.newWheel(LAST_YEAR_VALUE, false, 1);
+    private final WheelView mMonth = WheelFixture.newWheel(12, false, 1);
+    private final WheelView mDay = WheelFixture.newWheel(31, false, 1);
+    private final WheelGroup mGroup = new WheelGroup();
+    private int mDayResolveCount;
+
+    private final WheelGroup.RangeResolver mMonthResolver = new WheelGroup.RangeResolver() {
+        @Override
+        public void resolveRange(WheelView target, WheelGroup.Range range) {
+            range.set(1, mYear.getValue() == LAST_YEAR_VALUE ? LAST_YEAR_MONTHS : 12);
+        }
+    };
+
+    private final WheelGroup.RangeResolver mDayResolver = new WheelGroup.RangeResolver() {
+        @Override
+        public void resolveRange(WheelView target, WheelGroup.Range range) {
+            mDayResolveCount++;
+            range.set(1, getDayCount(FIRST_YEAR + mYear.getValue(), mMonth.getValue()));
+        }
+    };
+
+    private static int getDayCount(int year, int month) {
+        switch (month) {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private void runFrame() {
+        for (WheelView wheelView : new WheelView[]{mYear, mMonth, mDay}) {
+            wheelView.runAnimationCallbacks();
+        }
+    }
+
+    @Test
+    public void monthChange_clampsDay() {
+        mGroup.addDependency(mDay, mDayResolver, mYear, mMonth);
+        mDay.setValue(31);
+
+        mMonth.setValue(4);
+        assertEquals(31, mDay.getMaxValue());
+        runFrame();
+        assertEquals(30, mDay.getMaxValue());
+        assertEquals(30, mDay.getValue());
+
+        mMonth.setValue(2);
+        mYear.setValue(2);
+        runFrame();
+        assertEquals(28, mDay.getMaxValue());
+        assertEquals(28, mDay.getValue());
+    }
+
+    @Test
+    public void yearChange_flowsThroughMonthToDay() {
+        mGroup.addDependency(mMonth, mMonthResolver, mYear);
+        mGroup.addDependency(mDay, mDayResolver, mYear, mMonth);
+        mMonth.setValue(12);
+        mDay.setValue(31);
+
+        mYear.setValue(LAST_YEAR_VALUE);
+        runFrame();
+        assertEquals(LAST_YEAR_MONTHS, mMonth.getMaxValue());
+        assertEquals(LAST_YEAR_MONTHS, mMonth.getValue());
+        assertEquals(30, mDay.getMaxValue());
+        assertEquals(30, mDay.getValue());
+    }
+
+    @Test
+    public void severalChanges_resolveOncePerFrame() {
+        mGroup.addDependency(mDay, mDayResolver, mYear, mMonth);
+        int resolveCount = mDayResolveCount;
+        mMonth.setValue(2);
+        mMonth.setValue(3);
+        mYear.setValue(3);
+        mMonth.setValue(4);
+        assertEquals(resolveCount, mDayResolveCount);
+        runFrame();
+        assertEquals(resolveCount + 1, mDayResolveCount);
+        assertEquals(30, mDay.getMaxValue());
+    }
+
+    @Test
+    public void clear_dropsPendingAndLaterChanges() {
+        mGroup.addDependency(mDay, mDayResolver, mYear, mMonth);
+        mMonth.setValue(4);
+        mGroup.clear();
+        assertNull(mMonth.getWheelGroup());
+        runFrame();
+        mMonth.setValue(2);
+        runFrame();
+        assertEquals(31, mDay.getMaxValue());
+    }
+
+    @Test
+    public void detachedPostingWheel_doesNotBlockTheGroup() {
+        mGroup.addDependency(mDay, mDayResolver, mYear, mMonth);
+        mMonth.setValue(2);
+        mMonth.onDetachedFromWindow();
+        assertEquals(29, mDay.getMaxValue());
+
+        // The detached month wheel never runs its frame callbacks again.
+        mYear.setValue(2);
+        mYear.runAnimationCallbacks();
+        assertEquals(28, mDay.getMaxValue());
+    }
+}
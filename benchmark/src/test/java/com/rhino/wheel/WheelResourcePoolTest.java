@@ -0,0 +1,154 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks what wheels in one {@link WheelResourcePool} share.
+ */
+public class WheelResourcePoolTest {
+
+    private static final class CountingAdapter extends ArrayWheelAdapter {
+        int mGetItemCount;
+
+        CountingAdapter(CharSequence[] items) {
+            super(items);
+        }
+
+        @Override
+        public CharSequence getItem(int index) {
+            mGetItemCount++;
+            return super.getItem(index);
+        }
+    }
+
+    private static WheelView newWheel(WheelResourcePool pool) {
+        WheelView wheelView = WheelFixture.newWheel(60, true, 1);
+        wheelView.setResourcePool(pool);
+        return wheelView;
+    }
+
+    private static CharSequence[] newItems(int count) {
+        CharSequence[] items = new CharSequence[count];
+        for (int i = 0; i < count; i++) {
+            items[i] = "item " + i;
+        }
+        return items;
+    }
+
+    @Test
+    public void getNumericLabel_sharesSmallNumbers() {
+        WheelResourcePool pool = new WheelResourcePool();
+        assertSame(pool.getNumericLabel(59), pool.getNumericLabel(59));
+        assertEquals("59", pool.getNumericLabel(59).toString());
+        assertEquals(1, pool.getNumericLabelCount());
+        CharSequence large = pool.getNumericLabel(WheelResourcePool.NUMERIC_LABEL_TABLE_SIZE);
+        assertNotSame(large, pool.getNumericLabel(WheelResourcePool.NUMERIC_LABEL_TABLE_SIZE));
+        assertEquals("-1", pool.getNumericLabel(-1).toString());
+        assertEquals(1, pool.getNumericLabelCount());
+    }
+
+    @Test
+    public void setAdapter_measuresSharedItemsOnce() {
+        WheelResourcePool pool = new WheelResourcePool();
+        CharSequence[] items = newItems(5000);
+        CountingAdapter first = new CountingAdapter(items);
+        newWheel(pool).setAdapter(first);
+        assertTrue(first.mGetItemCount >= items.length);
+
+        CountingAdapter second = new CountingAdapter(items);
+        WheelView wheelView = newWheel(pool);
+        wheelView.setAdapter(second);
+        assertTrue(second.mGetItemCount < 20);
+        assertEquals(1, pool.getMaxWidthItemCount());
+        assertEquals(5000, wheelView.getMaxValue());
+    }
+
+    @Test
+    public void refreshWhenSetDisplayedValues_measuresChangedItems() {
+        WheelResourcePool pool = new WheelResourcePool();
+        CharSequence[] items = newItems(100);
+        WheelView wheelView = newWheel(pool);
+        wheelView.setAdapter(new ArrayWheelAdapter(items));
+        CountingAdapter same = new CountingAdapter(items);
+        wheelView.setAdapter(same);
+        int cachedCount = same.mGetItemCount;
+        wheelView.refreshWhenSetDisplayedValues();
+        assertTrue(same.mGetItemCount - cachedCount >= items.length);
+    }
+
+    @Test
+    public void numericWheels_shareLabels() {
+        WheelResourcePool pool = new WheelResourcePool();
+        WheelView first = newWheel(pool);
+        WheelView second = newWheel(pool);
+        assertSame(first.ensureCachedScrollSelectorValue(5), second.ensureCachedScrollSelectorValue(5));
+        assertNotSame(newWheel(null).ensureCachedScrollSelectorValue(5), newWheel(null).ensureCachedScrollSelectorValue(5));
+    }
+
+    @Test
+    public void measurePaints_followTheDrawStyle() {
+        WheelResourcePool pool = new WheelResourcePool();
+        Paint plain = new Paint();
+        Paint antiAlias = new Paint(Paint.ANTI_ALIAS_FLAG);
+        Paint typeface = new Paint();
+        typeface.setTypeface(Typeface.DEFAULT);
+
+        Paint measurePaint = pool.getMeasurePaint(antiAlias);
+        assertEquals(Paint.ANTI_ALIAS_FLAG, measurePaint.getFlags());
+        assertSame(measurePaint, pool.getMeasurePaint(new Paint(Paint.ANTI_ALIAS_FLAG)));
+        assertNotSame(measurePaint, pool.getMeasurePaint(plain));
+        assertSame(Typeface.DEFAULT, pool.getMeasurePaint(typeface).getTypeface());
+        assertEquals(3, pool.getMeasurePaintCount());
+
+        newWheel(pool);
+        newWheel(pool);
+        assertEquals(4, pool.getMeasurePaintCount());
+    }
+
+    @Test
+    public void maxWidthItems_areKeptPerMeasureStyle() {
+        WheelResourcePool pool = new WheelResourcePool();
+        CharSequence[] items = newItems(100);
+        Paint antiAlias = new Paint(Paint.ANTI_ALIAS_FLAG);
+        CharSequence maxWidthItem = pool.findMaxWidthItem(new ArrayWheelAdapter(items), antiAlias);
+        assertEquals("item 99", maxWidthItem.toString());
+
+        CountingAdapter sameStyle = new CountingAdapter(items);
+        assertSame(maxWidthItem, pool.findMaxWidthItem(sameStyle, new Paint(Paint.ANTI_ALIAS_FLAG)));
+        assertTrue(sameStyle.mGetItemCount < 20);
+
+        Paint typeface = new Paint(Paint.ANTI_ALIAS_FLAG);
+        typeface.setTypeface(Typeface.DEFAULT);
+        CountingAdapter otherStyle = new CountingAdapter(items);
+        pool.findMaxWidthItem(otherStyle, typeface);
+        assertTrue(otherStyle.mGetItemCount >= items.length);
+        pool.findMaxWidthItem(new ArrayWheelAdapter(items), new Paint());
+        assertEquals(3, pool.getMaxWidthItemCount());
+
+        pool.evictMaxWidthItem(new ArrayWheelAdapter(items));
+        assertEquals(0, pool.getMaxWidthItemCount());
+    }
+
+    @Test
+    public void getMemoryUsageBytes_tracksAndTrims() {
+        WheelResourcePool pool = new WheelResourcePool();
+        long empty = pool.getMemoryUsageBytes();
+        newWheel(pool).setAdapter(new ArrayWheelAdapter(newItems(100)));
+        assertEquals(1, pool.getMeasurePaintCount());
+        assertTrue(pool.getNumericLabelCount() > 0);
+        long used = pool.getMemoryUsageBytes();
+        assertTrue(used > empty);
+        pool.trimMemory();
+        assertEquals(0, pool.getNumericLabelCount());
+        assertEquals(0, pool.getMaxWidthItemCount());
+        assertTrue(pool.getMemoryUsageBytes() < used);
+    }
+}
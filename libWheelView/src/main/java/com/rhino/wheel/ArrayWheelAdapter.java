@@ -0,0 +1,28 @@
+package com.rhino.wheel;
+
+/**
+ * A {@link WheelAdapter} backed by an array, used by
+ * {@link WheelView#setDisplayedValues(String[])}.
+ **/
+public class ArrayWheelAdapter implements WheelAdapter {
+
+    private final CharSequence[] mItems;
+
+    public ArrayWheelAdapter(CharSequence[] items) {
+        this.mItems = items;
+    }
+
+    @Override
+    public int getItemCount() {
+        return mItems.length;
+    }
+
+    @Override
+    public CharSequence getItem(int index) {
+        return mItems[index];
+    }
+
+    public CharSequence[] getItems() {
+        return mItems;
+    }
+}
@@ -0,0 +1,128 @@
+package com.rhino.wheel;
+
+import android.graphics.Camera;
+import android.graphics.Matrix;
+
+/**
+ * Precomputed draw coordinate, alpha and rotation of an item on a cylinder
+ * turning about the cross axis of the wheel, indexed by the pixel
+ * coordinate of its center along the scroll axis.
+ * <p>
+ * An item is turned by its distance from the center measured along the
+ * cylinder, so the visible items cover half a turn. The sines, cosines and
+ * camera matrices are all computed when the table is built, drawing a frame
+ * only looks them up. Items more than a quarter turn away face backwards
+ * and are transparent.
+ * <p>
+ * The 9 values of every matrix are kept in one flat array and loaded into a
+ * single shared {@link Matrix} when asked for.
+ **/
+final class CylinderProjection {
+
+    private static final double QUARTER_TURN = Math.PI / 2;
+    private static final int MATRIX_SIZE = 9;
+
+    private final boolean mVertical;
+    private final int mCenter;
+    private final int mArcSize;
+    private final int mCrossCenter;
+    private final float mMinAlpha;
+    private final int mFrom;
+    private final int mTo;
+    private final int[] mDrawCoors;
+    private final float[] mAlphas;
+    private final float[] mMatrixValues;
+    private final float[] mValues = new float[MATRIX_SIZE];
+    private final Matrix mMatrix = new Matrix();
+
+    /**
+     * @param vertical    true if the wheel scrolls along y
+     * @param center      the center of the wheel along the scroll axis
+     * @param arcSize     the length of the visible items along the scroll
+     *                    axis, which is half a turn
+     * @param crossCenter the center of the items across the scroll axis
+     * @param minAlpha    the alpha of an item a quarter turn away
+     * @param from        the first center coordinate covered by the table
+     * @param to          the last center coordinate covered by the table
+     */
+    CylinderProjection(boolean vertical, int center, int arcSize, int crossCenter,
+                       float minAlpha, int from, int to) {
+        this.mVertical = vertical;
+        this.mCenter = center;
+        this.mArcSize = arcSize;
+        this.mCrossCenter = crossCenter;
+        this.mMinAlpha = minAlpha;
+        this.mFrom = from;
+        this.mTo = to;
+        int length = Math.max(1, to - from + 1);
+        mDrawCoors = new int[length];
+        mAlphas = new float[length];
+        mMatrixValues = new float[length * MATRIX_SIZE];
+        float radius = arcSize / (float) Math.PI;
+        Camera camera = new Camera();
+        Matrix matrix = mMatrix;
+        for (int i = 0; i < length; i++) {
+            double angle = radius > 0 ? (from + i - center) / radius : 0;
+            boolean facing = Math.abs(angle) < QUARTER_TURN;
+            angle = Math.max(-QUARTER_TURN, Math.min(QUARTER_TURN, angle));
+            float sin = (float) Math.sin(angle);
+            float cos = (float) Math.cos(angle);
+            int drawCoor = center + Math.round(radius * sin);
+            mDrawCoors[i] = drawCoor;
+            mAlphas[i] = facing ? minAlpha + (1 - minAlpha) * cos : 0f;
+
+            // Turn the item about its own center, the far edge moves away.
+            float degrees = (float) Math.toDegrees(angle);
+            camera.save();
+            if (vertical) {
+                camera.rotateX(-degrees);
+            } else {
+                camera.rotateY(degrees);
+            }
+            camera.getMatrix(matrix);
+            camera.restore();
+            int pivotX = vertical ? crossCenter : drawCoor;
+            int pivotY = vertical ? drawCoor : crossCenter;
+            matrix.preTranslate(-pivotX, -pivotY);
+            matrix.postTranslate(pivotX, pivotY);
+            matrix.getValues(mValues);
+            System.arraycopy(mValues, 0, mMatrixValues, i * MATRIX_SIZE, MATRIX_SIZE);
+        }
+    }
+
+    /**
+     * @return true if the table was built from these arguments, so it need
+     * not be built again
+     */
+    boolean isBuiltFor(boolean vertical, int center, int arcSize, int crossCenter,
+                       float minAlpha, int from, int to) {
+        return mVertical == vertical && mCenter == center && mArcSize == arcSize
+                && mCrossCenter == crossCenter && mMinAlpha == minAlpha && mFrom == from && mTo == to;
+    }
+
+    int getDrawCoor(int coor) {
+        return mDrawCoors[indexOf(coor)];
+    }
+
+    float getAlpha(int coor) {
+        return mAlphas[indexOf(coor)];
+    }
+
+    /**
+     * @return the shared matrix to concat before drawing the item centered
+     * at {@link #getDrawCoor(int)}, do not modify it. It is overwritten by
+     * the next call.
+     */
+    Matrix getMatrix(int coor) {
+        System.arraycopy(mMatrixValues, indexOf(coor) * MATRIX_SIZE, mValues, 0, MATRIX_SIZE);
+        mMatrix.setValues(mValues);
+        return mMatrix;
+    }
+
+    /**
+     * Coordinates outside the table are past a quarter turn, like its ends.
+     */
+    private int indexOf(int coor) {
+        return Math.max(0, Math.min(mDrawCoors.length - 1, coor - mFrom));
+    }
+}
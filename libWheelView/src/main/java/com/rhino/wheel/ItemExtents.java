@@ -0,0 +1,125 @@
+package com.rhino.wheel;
+
+/**
+ * The heights of the items of a wheel and their prefix sums, kept in a
+ * Fenwick tree: the start of an item, the item at a position and changing
+ * the height of one item each take O(log n).
+ * <p>
+ * Items without a height of their own take the default height. Changing the
+ * default rebuilds the tree in O(n).
+ **/
+final class ItemExtents {
+
+    private final int[] mSizes;
+    private final int[] mTree;
+    private final int mHighBit;
+    private int mDefaultSize;
+    private int mTotal;
+
+    /**
+     * @param count       the number of items
+     * @param defaultSize the height of the items without one of their own
+     */
+    ItemExtents(int count, int defaultSize) {
+        checkSize(defaultSize);
+        mSizes = new int[count];
+        mTree = new int[count + 1];
+        mHighBit = Integer.highestOneBit(Math.max(1, count));
+        mDefaultSize = defaultSize;
+        rebuild();
+    }
+
+    int size() {
+        return mSizes.length;
+    }
+
+    int getDefaultSize() {
+        return mDefaultSize;
+    }
+
+    void setDefaultSize(int defaultSize) {
+        checkSize(defaultSize);
+        if (defaultSize == mDefaultSize) {
+            return;
+        }
+        mDefaultSize = defaultSize;
+        rebuild();
+    }
+
+    int getSize(int index) {
+        int size = mSizes[index];
+        return size == 0 ? mDefaultSize : size;
+    }
+
+    void setSize(int index, int size) {
+        checkSize(size);
+        int delta = size - getSize(index);
+        mSizes[index] = size;
+        if (delta == 0) {
+            return;
+        }
+        for (int i = index + 1; i < mTree.length; i += i & -i) {
+            mTree[i] += delta;
+        }
+        mTotal += delta;
+    }
+
+    /**
+     * @return the sum of the heights of the items before the item
+     */
+    int getStart(int index) {
+        int start = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            start += mTree[i];
+        }
+        return start;
+    }
+
+    int getCenter(int index) {
+        return getStart(index) + getSize(index) / 2;
+    }
+
+    int getTotal() {
+        return mTotal;
+    }
+
+    /**
+     * @param position a position from the start of the first item
+     * @return the item covering the position, the first or last item for
+     * positions before or after all of them
+     */
+    int indexAt(int position) {
+        if (position <= 0) {
+            return 0;
+        }
+        int index = 0;
+        for (int step = mHighBit; step > 0; step >>= 1) {
+            int next = index + step;
+            if (next < mTree.length && mTree[next] <= position) {
+                index = next;
+                position -= mTree[next];
+            }
+        }
+        return Math.min(index, mSizes.length - 1);
+    }
+
+    private void rebuild() {
+        int count = mSizes.length;
+        for (int i = 0; i < count; i++) {
+            mTree[i + 1] = getSize(i);
+        }
+        for (int i = 1; i <= count; i++) {
+            int parent = i + (i & -i);
+            if (parent <= count) {
+                mTree[parent] += mTree[i];
+            }
+        }
+        mTotal = getStart(count);
+    }
+
+    private static void checkSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("item height must be positive: " + size);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.rhino.wheel;
+
+import java.util.Arrays;
+
+/**
+ * A bounded least-recently-used cache of item text keyed by selector index.
+ * <p>
+ * Keys are plain ints, so lookups do not box. Entries live in fixed slots
+ * linked into a recency list and a hash chain.
+ **/
+final class ItemLabelCache {
+
+    private static final int NONE = -1;
+
+    private int mMaxSize;
+    private int[] mKeys;
+    private CharSequence[] mValues;
+    private int[] mPrev;
+    private int[] mNext;
+    private int[] mChain;
+    private int[] mBuckets;
+    private int mHead = NONE;
+    private int mTail = NONE;
+    private int mSize;
+    private long mHitCount;
+    private long mMissCount;
+
+    ItemLabelCache(int maxSize) {
+        resize(maxSize);
+    }
+
+    /**
+     * Changes the capacity, dropping all entries.
+     */
+    void resize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        mMaxSize = maxSize;
+        mKeys = new int[maxSize];
+        mValues = new CharSequence[maxSize];
+        mPrev = new int[maxSize];
+        mNext = new int[maxSize];
+        mChain = new int[maxSize];
+        mBuckets = new int[Integer.highestOneBit(maxSize) << 2];
+        clear();
+    }
+
+    CharSequence get(int key) {
+        int slot = find(key);
+        if (slot == NONE) {
+            mMissCount++;
+            return null;
+        }
+        mHitCount++;
+        moveToHead(slot);
+        return mValues[slot];
+    }
+
+    void put(int key, CharSequence value) {
+        int slot = find(key);
+        if (slot != NONE) {
+            mValues[slot] = value;
+            moveToHead(slot);
+            return;
+        }
+        if (mSize == mMaxSize) {
+            slot = mTail;
+            unlink(slot);
+            removeFromBucket(slot);
+        } else {
+            slot = mSize++;
+        }
+        mKeys[slot] = key;
+        mValues[slot] = value;
+        int bucket = bucketOf(key);
+        mChain[slot] = mBuckets[bucket];
+        mBuckets[bucket] = slot;
+        linkAtHead(slot);
+    }
+
+    /**
+     * Drops all entries, the hit and miss counts are kept.
+     */
+    void clear() {
+        Arrays.fill(mBuckets, NONE);
+        Arrays.fill(mValues, null);
+        mHead = NONE;
+        mTail = NONE;
+        mSize = 0;
+    }
+
+    int size() {
+        return mSize;
+    }
+
+    int maxSize() {
+        return mMaxSize;
+    }
+
+    long hitCount() {
+        return mHitCount;
+    }
+
+    long missCount() {
+        return mMissCount;
+    }
+
+    private int find(int key) {
+        for (int slot = mBuckets[bucketOf(key)]; slot != NONE; slot = mChain[slot]) {
+            if (mKeys[slot] == key) {
+                return slot;
+            }
+        }
+        return NONE;
+    }
+
+    private int bucketOf(int key) {
+        return (key * 0x9E3779B9) >>> 16 & (mBuckets.length - 1);
+    }
+
+    private void removeFromBucket(int slot) {
+        int bucket = bucketOf(mKeys[slot]);
+        int prev = NONE;
+        for (int s = mBuckets[bucket]; s != NONE; s = mChain[s]) {
+            if (s == slot) {
+                if (prev == NONE) {
+                    mBuckets[bucket] = mChain[s];
+                } else {
+                    mChain[prev] = mChain[s];
+                }
+                return;
+            }
+            prev = s;
+        }
+    }
+
+    private void moveToHead(int slot) {
+        if (slot != mHead) {
+            unlink(slot);
+            linkAtHead(slot);
+        }
+    }
+
+    private void unlink(int slot) {
+        int prev = mPrev[slot];
+        int next = mNext[slot];
+        if (prev == NONE) {
+            mHead = next;
+        } else {
+            mNext[prev] = next;
+        }
+        if (next == NONE) {
+            mTail = prev;
+        } else {
+            mPrev[next] = prev;
+        }
+    }
+
+    private void linkAtHead(int slot) {
+        mPrev[slot] = NONE;
+        mNext[slot] = mHead;
+        if (mHead != NONE) {
+            mPrev[mHead] = slot;
+        }
+        mHead = slot;
+        if (mTail == NONE) {
+            mTail = slot;
+        }
+    }
+}
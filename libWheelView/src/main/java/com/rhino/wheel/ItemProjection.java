@@ -0,0 +1,144 @@
+package com.rhino.wheel;
+
+/**
+ * Precomputed scale, alpha and draw coordinate of an item, indexed by the
+ * pixel coordinate of its center along the scroll axis.
+ * <p>
+ * Built once per {@code initViewSize}, so drawing a frame only needs table
+ * lookups. Coordinates outside the table fall back to the same formulas.
+ **/
+final class ItemProjection {
+
+    /**
+     * The scale of an item at the edge of the wheel.
+     */
+    static final float MIN_SCALE = 0.6f;
+    /**
+     * The scale of the selected item.
+     */
+    static final float MAX_SCALE = 1f;
+    private static final float SCALE_RANGE = 0.4f;
+
+    private final boolean mVertical;
+    private final int mViewSize;
+    private final int mHalfViewSize;
+    private final int mTotalSize;
+    private final int mOffsetTotalSize;
+    private final float mMinAlpha;
+
+    private final int mFrom;
+    private final float[] mScales;
+    private final float[] mAlphas;
+    private final int[] mDrawCoors;
+
+    private ItemProjection(boolean vertical, int viewSize, int halfViewSize, int totalSize,
+                           int offsetTotalSize, float minAlpha, int from, int to) {
+        this.mVertical = vertical;
+        this.mViewSize = viewSize;
+        this.mHalfViewSize = halfViewSize;
+        this.mTotalSize = totalSize;
+        this.mOffsetTotalSize = offsetTotalSize;
+        this.mMinAlpha = minAlpha;
+        this.mFrom = from;
+        int length = Math.max(0, to - from + 1);
+        mScales = new float[length];
+        mAlphas = new float[length];
+        mDrawCoors = new int[length];
+        for (int i = 0; i < length; i++) {
+            int coor = from + i;
+            float fac1 = computeFac1(coor);
+            mScales[i] = computeScale(fac1);
+            mAlphas[i] = computeAlpha(fac1);
+            mDrawCoors[i] = computeDrawCoor(coor, mScales[i]);
+        }
+    }
+
+    /**
+     * Projection of a vertical wheel.
+     *
+     * @param viewHeight        the view height
+     * @param totalHeight       the height of all visible items
+     * @param offsetTotalHeight the top of the visible items
+     * @param minAlpha          the alpha of the farthest item
+     * @param from              the first center y covered by the table
+     * @param to                the last center y covered by the table
+     */
+    static ItemProjection vertical(int viewHeight, int totalHeight, int offsetTotalHeight,
+                                   float minAlpha, int from, int to) {
+        return new ItemProjection(true, viewHeight, viewHeight / 2, totalHeight,
+                offsetTotalHeight, minAlpha, from, to);
+    }
+
+    /**
+     * Projection of a horizontal wheel.
+     *
+     * @param viewWidth the view width
+     * @param halfWidth the center x of the view
+     * @param minAlpha  the alpha of the farthest item
+     * @param from      the first center x covered by the table
+     * @param to        the last center x covered by the table
+     */
+    static ItemProjection horizontal(int viewWidth, int halfWidth, float minAlpha, int from, int to) {
+        return new ItemProjection(false, viewWidth, halfWidth, 0, 0, minAlpha, from, to);
+    }
+
+    float getScale(int coor) {
+        int i = coor - mFrom;
+        if (i >= 0 && i < mScales.length) {
+            return mScales[i];
+        }
+        return computeScale(computeFac1(coor));
+    }
+
+    float getAlpha(int coor) {
+        int i = coor - mFrom;
+        if (i >= 0 && i < mAlphas.length) {
+            return mAlphas[i];
+        }
+        return computeAlpha(computeFac1(coor));
+    }
+
+    int getDrawCoor(int coor) {
+        int i = coor - mFrom;
+        if (i >= 0 && i < mDrawCoors.length) {
+            return mDrawCoors[i];
+        }
+        return computeDrawCoor(coor, computeScale(computeFac1(coor)));
+    }
+
+    private float computeFac1(int coor) {
+        float fac;
+        if (mVertical) {
+            int cy = coor - mOffsetTotalSize;
+            int halfHeight = mTotalSize / 2;
+            if (cy > halfHeight) {
+                fac = (mTotalSize - cy) / (mTotalSize * 0.5f);
+            } else {
+                fac = cy / (mTotalSize * 0.5f);
+            }
+        } else {
+            if (coor > mHalfViewSize) {
+                fac = (mViewSize - coor) / (mHalfViewSize * 1f);
+            } else {
+                fac = coor / (mHalfViewSize * 1f);
+            }
+        }
+        return fac;
+    }
+
+    private static float computeScale(float fac1) {
+        return MIN_SCALE + SCALE_RANGE * fac1 * fac1;
+    }
+
+    private float computeAlpha(float fac1) {
+        return mMinAlpha + (1 - mMinAlpha) * fac1 * fac1;
+    }
+
+    private int computeDrawCoor(int coor, float scale) {
+        if (coor > mHalfViewSize) {
+            return (int) (mViewSize - (mViewSize - coor) * scale);
+        } else {
+            return (int) (coor * scale);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.rhino.wheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Paint.FontMetricsInt;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.SparseIntArray;
+
+/**
+ * Item labels rasterized once at full text size into a shared alpha-only
+ * bitmap, then drawn scaled with the color and alpha of the draw paint.
+ * <p>
+ * The bitmap is split into equal slots sized for the widest label. The number
+ * of slots follows from the memory budget, and the least recently drawn label
+ * is evicted when a new one needs a slot.
+ **/
+final class LabelAtlas {
+
+    private static final int MAX_ATLAS_WIDTH = 2048;
+    private static final int SLOT_PADDING = 1;
+    private static final int NO_SLOT = -1;
+
+    private final Paint mRasterPaint;
+    private final Paint mClearPaint;
+    private final FontMetricsInt mFontMetrics = new FontMetricsInt();
+    private final SparseIntArray mKeyToSlot = new SparseIntArray();
+    private final Rect mSrcRect = new Rect();
+    private final RectF mDstRect = new RectF();
+
+    private Bitmap mBitmap;
+    private Canvas mCanvas;
+    private float mTextSize;
+    private int mMaxTextWidth;
+    private int mMemoryBudget;
+    private int mSlotWidth;
+    private int mSlotHeight;
+    private int mColumns;
+    private int mCapacity;
+    private int mBaseline;
+    private int mSize;
+    private int[] mSlotKeys;
+    private int[] mSlotTextWidths;
+    private long[] mSlotLastUsed;
+    private long mFrame;
+
+    LabelAtlas() {
+        mRasterPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mRasterPaint.setTextAlign(Paint.Align.LEFT);
+        mRasterPaint.setColor(0xFF000000);
+        mClearPaint = new Paint();
+        mClearPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+    }
+
+    /**
+     * Prepares the atlas for labels drawn with {@code textPaint} at
+     * {@code textSize}, keeping the current bitmap when nothing changed.
+     *
+     * @param textPaint    the paint items are drawn with, for typeface and flags
+     * @param textSize     the full item text size
+     * @param maxTextWidth the width of the widest label at full size
+     * @param memoryBudget the most bytes the bitmap may take
+     * @param minSlots     the fewest labels the atlas must hold to be useful
+     * @return false if the budget is too small, labels should be drawn as text
+     */
+    boolean configure(Paint textPaint, float textSize, float maxTextWidth, int memoryBudget, int minSlots) {
+        int textWidth = (int) Math.ceil(maxTextWidth);
+        if (null != mBitmap && textSize == mTextSize && textWidth == mMaxTextWidth
+                && memoryBudget == mMemoryBudget && mCapacity >= minSlots) {
+            return true;
+        }
+        release();
+        if (textSize <= 0 || textWidth <= 0) {
+            return false;
+        }
+        mRasterPaint.setTypeface(textPaint.getTypeface());
+        mRasterPaint.setFlags(textPaint.getFlags());
+        mRasterPaint.setTextAlign(Paint.Align.LEFT);
+        mRasterPaint.setTextSize(textSize);
+        mRasterPaint.getFontMetricsInt(mFontMetrics);
+        int slotWidth = textWidth + 2 * SLOT_PADDING;
+        int slotHeight = mFontMetrics.bottom - mFontMetrics.top + 2 * SLOT_PADDING;
+        if (slotWidth > MAX_ATLAS_WIDTH) {
+            return false;
+        }
+        int capacity = memoryBudget / (slotWidth * slotHeight);
+        if (capacity < minSlots) {
+            return false;
+        }
+        int columns = Math.min(capacity, MAX_ATLAS_WIDTH / slotWidth);
+        int rows = (capacity + columns - 1) / columns;
+        capacity = Math.min(capacity, columns * rows);
+
+        mTextSize = textSize;
+        mMaxTextWidth = textWidth;
+        mMemoryBudget = memoryBudget;
+        mSlotWidth = slotWidth;
+        mSlotHeight = slotHeight;
+        mColumns = columns;
+        mCapacity = capacity;
+        mBaseline = SLOT_PADDING - mFontMetrics.top;
+        mSlotKeys = new int[capacity];
+        mSlotTextWidths = new int[capacity];
+        mSlotLastUsed = new long[capacity];
+        mBitmap = Bitmap.createBitmap(columns * slotWidth, rows * slotHeight, Bitmap.Config.ALPHA_8);
+        mCanvas = new Canvas(mBitmap);
+        return true;
+    }
+
+    /**
+     * Drops every rasterized label, call when the labels of the keys change.
+     */
+    void clear() {
+        mKeyToSlot.clear();
+        mSize = 0;
+    }
+
+    /**
+     * Releases the bitmap, {@link #configure} must be called again before drawing.
+     */
+    void release() {
+        clear();
+        if (null != mBitmap) {
+            mBitmap.recycle();
+            mBitmap = null;
+            mCanvas = null;
+        }
+        mCapacity = 0;
+    }
+
+    boolean isReady() {
+        return null != mBitmap;
+    }
+
+    int getByteCount() {
+        return null == mBitmap ? 0 : mBitmap.getByteCount();
+    }
+
+    /**
+     * Marks the start of a frame, labels drawn in the current frame are never evicted.
+     */
+    void nextFrame() {
+        mFrame++;
+    }
+
+    /**
+     * Draws {@code text} centered on ({@code cx}, {@code cy}) at {@code scale}
+     * of the full text size, with the color and alpha of {@code paint}.
+     *
+     * @param key the selector index of the label
+     * @return false if the label does not fit a slot and should be drawn as text
+     */
+    boolean draw(Canvas canvas, int key, CharSequence text, float cx, float cy, float scale, Paint paint) {
+        if (null == mBitmap) {
+            return false;
+        }
+        int slot = mKeyToSlot.get(key, NO_SLOT);
+        if (slot == NO_SLOT) {
+            slot = rasterize(key, text);
+            if (slot == NO_SLOT) {
+                return false;
+            }
+        }
+        mSlotLastUsed[slot] = mFrame;
+        int left = (slot % mColumns) * mSlotWidth;
+        int top = (slot / mColumns) * mSlotHeight;
+        int textWidth = mSlotTextWidths[slot];
+        mSrcRect.set(left + SLOT_PADDING, top, left + SLOT_PADDING + textWidth, top + mSlotHeight);
+        float halfWidth = textWidth * scale / 2;
+        float halfHeight = mSlotHeight * scale / 2;
+        mDstRect.set(cx - halfWidth, cy - halfHeight, cx + halfWidth, cy + halfHeight);
+        canvas.drawBitmap(mBitmap, mSrcRect, mDstRect, paint);
+        return true;
+    }
+
+    private int rasterize(int key, CharSequence text) {
+        int textWidth = (int) Math.ceil(mRasterPaint.measureText(text, 0, text.length()));
+        if (textWidth > mSlotWidth - 2 * SLOT_PADDING) {
+            return NO_SLOT;
+        }
+        int slot;
+        if (mSize < mCapacity) {
+            slot = mSize++;
+        } else {
+            slot = findLeastRecentlyUsed();
+            if (slot == NO_SLOT) {
+                return NO_SLOT;
+            }
+            mKeyToSlot.delete(mSlotKeys[slot]);
+        }
+        int left = (slot % mColumns) * mSlotWidth;
+        int top = (slot / mColumns) * mSlotHeight;
+        mCanvas.drawRect(left, top, left + mSlotWidth, top + mSlotHeight, mClearPaint);
+        mCanvas.drawText(text, 0, text.length(), left + SLOT_PADDING, top + mBaseline, mRasterPaint);
+        mSlotKeys[slot] = key;
+        mSlotTextWidths[slot] = textWidth;
+        mKeyToSlot.put(key, slot);
+        return slot;
+    }
+
+    private int findLeastRecentlyUsed() {
+        int slot = NO_SLOT;
+        long oldest = mFrame;
+        for (int i = 0; i < mSize; i++) {
+            if (mSlotLastUsed[i] < oldest) {
+                oldest = mSlotLastUsed[i];
+                slot = i;
+            }
+        }
+        return slot;
+    }
+}
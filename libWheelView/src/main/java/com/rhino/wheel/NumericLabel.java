@@ -0,0 +1,95 @@
+package com.rhino.wheel;
+
+/**
+ * The label of a numeric item, formatted into a reused char buffer. One
+ * instance serves every item, set right before it is drawn, so numeric
+ * wheels draw without creating a String per item or frame.
+ **/
+final class NumericLabel implements CharSequence {
+
+    private static final int MAX_DIGITS = 10;
+
+    private final int mWidth;
+    private final boolean mZeroPad;
+    private final char[] mPrefix;
+    private final char[] mSuffix;
+    private final char[] mChars;
+    private int mLength;
+
+    /**
+     * @param width   the least number of digits, shorter numbers are padded
+     * @param zeroPad pads with zeros after the sign instead of spaces before it
+     * @param prefix  put before the number, may be null
+     * @param suffix  put after the number, may be null
+     */
+    NumericLabel(int width, boolean zeroPad, String prefix, String suffix) {
+        mWidth = Math.max(0, width);
+        mZeroPad = zeroPad;
+        mPrefix = null == prefix ? new char[0] : prefix.toCharArray();
+        mSuffix = null == suffix ? new char[0] : suffix.toCharArray();
+        mChars = new char[mPrefix.length + 1 + Math.max(mWidth, MAX_DIGITS) + mSuffix.length];
+    }
+
+    void set(int value) {
+        char[] chars = mChars;
+        int length = 0;
+        System.arraycopy(mPrefix, 0, chars, 0, mPrefix.length);
+        length += mPrefix.length;
+        long magnitude = Math.abs((long) value);
+        int digits = 1;
+        for (long rest = magnitude / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int padding = Math.max(0, mWidth - digits);
+        if (!mZeroPad) {
+            for (int i = 0; i < padding; i++) {
+                chars[length++] = ' ';
+            }
+        }
+        if (value < 0) {
+            chars[length++] = '-';
+        }
+        if (mZeroPad) {
+            for (int i = 0; i < padding; i++) {
+                chars[length++] = '0';
+            }
+        }
+        length += digits;
+        for (int i = length - 1; i >= length - digits; i--) {
+            chars[i] = (char) ('0' + magnitude % 10);
+            magnitude /= 10;
+        }
+        System.arraycopy(mSuffix, 0, chars, length, mSuffix.length);
+        mLength = length + mSuffix.length;
+    }
+
+    /**
+     * @return the buffer holding the label in its first {@link #length()} chars
+     */
+    char[] getChars() {
+        return mChars;
+    }
+
+    @Override
+    public int length() {
+        return mLength;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= mLength) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + mLength);
+        }
+        return mChars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(mChars, 0, mLength);
+    }
+}
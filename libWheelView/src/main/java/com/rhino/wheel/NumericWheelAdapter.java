@@ -0,0 +1,186 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+
+/**
+ * A {@link WheelAdapter} showing the integers in [minValue, maxValue].
+ * <p>
+ * Labels are built on request, and the widest label is found from the digit
+ * widths, so ranges of any size cost the same.
+ **/
+public class NumericWheelAdapter implements WheelAdapter {
+
+    private static final String DIGITS = "0123456789";
+
+    private int mMinValue;
+    private int mMaxValue;
+
+    public NumericWheelAdapter(int minValue, int maxValue) {
+        setRange(minValue, maxValue);
+    }
+
+    public void setRange(int minValue, int maxValue) {
+        if (maxValue < minValue) {
+            throw new IllegalArgumentException("maxValue must be >= minValue");
+        }
+        this.mMinValue = minValue;
+        this.mMaxValue = maxValue;
+    }
+
+    public int getMinValue() {
+        return mMinValue;
+    }
+
+    public int getMaxValue() {
+        return mMaxValue;
+    }
+
+    @Override
+    public int getItemCount() {
+        return mMaxValue - mMinValue + 1;
+    }
+
+    @Override
+    public CharSequence getItem(int index) {
+        return String.valueOf(mMinValue + index);
+    }
+
+    @Override
+    public int getMaxWidthItemIndex(Paint paint) {
+        if (mMinValue < 0) {
+            return -1;
+        }
+        float[] digitWidths = new float[DIGITS.length()];
+        for (int i = 0; i < digitWidths.length; i++) {
+            digitWidths[i] = paint.measureText(DIGITS, i, i + 1);
+        }
+        return (int) (getMaxWidthValue(mMinValue, mMaxValue, digitWidths) - mMinValue);
+    }
+
+    /**
+     * Returns the value in [minValue, maxValue] whose label is the widest,
+     * taking the width of a label as the sum of its digit widths. On equal
+     * widths the larger value wins.
+     *
+     * @param minValue    the first value, >= 0
+     * @param maxValue    the last value
+     * @param digitWidths the widths of the digits 0 to 9
+     */
+    static long getMaxWidthValue(long minValue, long maxValue, float[] digitWidths) {
+        long best = -1;
+        float bestWidth = -1;
+        int minLength = String.valueOf(minValue).length();
+        int maxLength = String.valueOf(maxValue).length();
+        for (int length = minLength; length <= maxLength; length++) {
+            long from = Math.max(minValue, length == 1 ? 0 : pow10(length - 1));
+            long to = Math.min(maxValue, pow10(length) - 1);
+            long value = getMaxWidthValueSameLength(from, to, digitWidths);
+            float width = getWidth(value, digitWidths);
+            if (width > bestWidth || (width == bestWidth && value > best)) {
+                best = value;
+                bestWidth = width;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Both bounds have the same number of digits. The widest value either is
+     * a bound, or follows a bound up to some digit, moves away from it there
+     * and uses the widest digit for the rest.
+     */
+    private static long getMaxWidthValueSameLength(long from, long to, float[] digitWidths) {
+        char[] lo = String.valueOf(from).toCharArray();
+        char[] hi = String.valueOf(to).toCharArray();
+        int length = hi.length;
+        int k = 0;
+        while (k < length && lo[k] == hi[k]) {
+            k++;
+        }
+        long best = to;
+        float bestWidth = getWidth(to, digitWidths);
+        if (k == length) {
+            return best;
+        }
+        char[] candidate = new char[length];
+        char widest = widestDigit(0, 9, digitWidths);
+        for (int j = k; j < length; j++) {
+            for (int side = 0; side < 3; side++) {
+                int digitFrom;
+                int digitTo;
+                char[] prefix;
+                if (side == 0) {
+                    // Strictly between the bounds at their first difference.
+                    if (j != k) {
+                        continue;
+                    }
+                    prefix = hi;
+                    digitFrom = lo[k] - '0' + 1;
+                    digitTo = hi[k] - '0' - 1;
+                } else if (side == 1) {
+                    // Below the upper bound.
+                    if (j == k) {
+                        continue;
+                    }
+                    prefix = hi;
+                    digitFrom = 0;
+                    digitTo = hi[j] - '0' - 1;
+                } else {
+                    // Above the lower bound.
+                    if (j == k) {
+                        continue;
+                    }
+                    prefix = lo;
+                    digitFrom = lo[j] - '0' + 1;
+                    digitTo = 9;
+                }
+                if (digitFrom > digitTo) {
+                    continue;
+                }
+                System.arraycopy(prefix, 0, candidate, 0, j);
+                candidate[j] = widestDigit(digitFrom, digitTo, digitWidths);
+                for (int i = j + 1; i < length; i++) {
+                    candidate[i] = widest;
+                }
+                long value = Long.parseLong(new String(candidate));
+                float width = getWidth(value, digitWidths);
+                if (width > bestWidth || (width == bestWidth && value > best)) {
+                    best = value;
+                    bestWidth = width;
+                }
+            }
+        }
+        float fromWidth = getWidth(from, digitWidths);
+        if (fromWidth > bestWidth) {
+            best = from;
+        }
+        return best;
+    }
+
+    private static char widestDigit(int from, int to, float[] digitWidths) {
+        int widest = from;
+        for (int d = from + 1; d <= to; d++) {
+            if (digitWidths[d] >= digitWidths[widest]) {
+                widest = d;
+            }
+        }
+        return (char) ('0' + widest);
+    }
+
+    private static float getWidth(long value, float[] digitWidths) {
+        float width = 0;
+        do {
+            width += digitWidths[(int) (value % 10)];
+            value /= 10;
+        } while (value > 0);
+        return width;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
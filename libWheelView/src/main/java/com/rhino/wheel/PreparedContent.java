@@ -0,0 +1,102 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+/**
+ * New items for a {@link WheelView}, measured on a worker thread. The widest
+ * item is found and the text sizes it is fitted to are put in the
+ * {@link TextSizeFitter} cache, so the view only applies the result.
+ * <p>
+ * Everything the worker reads is captured on the UI thread up front.
+ **/
+final class PreparedContent {
+
+    private static final int MAX_WIDTH_MEASURE_TEXT_SIZE = 10;
+
+    private final WheelAdapter mAdapter;
+    private final int mGeneration;
+    private final WheelResourcePool mResourcePool;
+    private final Typeface mTypeface;
+    private final int mFlags;
+    private final int[] mFitWidths;
+    private final String mFitSuffix;
+    private CharSequence mMaxWidthItem;
+
+    /**
+     * @param adapter    the new items, read from the worker thread
+     * @param generation tells this content from newer content set meanwhile
+     * @param pool       shares the widest item with other wheels, may be null
+     * @param textPaint  the paint the items are drawn with
+     * @param fitWidths  the widths the widest item is fitted to, empty before
+     *                   the view is laid out
+     * @param fitSuffix  appended to the widest item before fitting it
+     */
+    PreparedContent(WheelAdapter adapter, int generation, WheelResourcePool pool, Paint textPaint,
+                    int[] fitWidths, String fitSuffix) {
+        this.mAdapter = adapter;
+        this.mGeneration = generation;
+        this.mResourcePool = pool;
+        this.mTypeface = textPaint.getTypeface();
+        this.mFlags = textPaint.getFlags();
+        this.mFitWidths = fitWidths;
+        this.mFitSuffix = fitSuffix;
+    }
+
+    /**
+     * Measures the items, on the worker thread.
+     */
+    void prepare() {
+        Paint measurePaint = new Paint(mFlags);
+        measurePaint.setTypeface(mTypeface);
+        mMaxWidthItem = null != mResourcePool
+                ? mResourcePool.findMaxWidthItem(mAdapter, measurePaint)
+                : findMaxWidthItem(mAdapter, measurePaint);
+        Paint fitPaint = new Paint(mFlags);
+        fitPaint.setTypeface(mTypeface);
+        String fitString = mMaxWidthItem + mFitSuffix;
+        for (int fitWidth : mFitWidths) {
+            TextSizeFitter.fitTextSize(fitPaint, fitWidth, fitString);
+        }
+    }
+
+    WheelAdapter getAdapter() {
+        return mAdapter;
+    }
+
+    int getGeneration() {
+        return mGeneration;
+    }
+
+    CharSequence getMaxWidthItem() {
+        return mMaxWidthItem;
+    }
+
+    /**
+     * @param measurePaint a paint that only this call uses
+     * @return the widest item, "" when there are none
+     */
+    static CharSequence findMaxWidthItem(WheelAdapter adapter, Paint measurePaint) {
+        if (null == adapter || adapter.getItemCount() == 0) {
+            return "";
+        }
+        measurePaint.setTextSize(MAX_WIDTH_MEASURE_TEXT_SIZE);
+        int maxWidthIndex = adapter.getMaxWidthItemIndex(measurePaint);
+        if (maxWidthIndex < 0) {
+            float maxWidth = 0;
+            maxWidthIndex = 0;
+            for (int i = 0; i < adapter.getItemCount(); i++) {
+                CharSequence txt = adapter.getItem(i);
+                if (null != txt && txt.length() > 0) {
+                    float w = measurePaint.measureText(txt, 0, txt.length());
+                    if (w >= maxWidth) {
+                        maxWidth = w;
+                        maxWidthIndex = i;
+                    }
+                }
+            }
+        }
+        CharSequence maxWidthItem = adapter.getItem(maxWidthIndex);
+        return null == maxWidthItem ? "" : maxWidthItem;
+    }
+}
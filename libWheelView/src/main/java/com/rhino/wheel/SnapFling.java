@@ -0,0 +1,95 @@
+package com.rhino.wheel;
+
+/**
+ * Plans a fling that ends on an item boundary. The distance a fling would
+ * travel at a constant deceleration is rounded to a whole number of items
+ * up front, so the wheel stops on an item without a second adjust animation.
+ * <p>
+ * The planned scroll starts at the release velocity and decelerates evenly
+ * to rest, which is the curve of a {@code DecelerateInterpolator} with the
+ * default factor.
+ **/
+final class SnapFling {
+
+    /**
+     * The deceleration of one unit of friction at 160 dpi, in px/s^2, as
+     * {@code OverScroller} computes it.
+     */
+    private static final float PHYSICAL_COEFF_MDPI = 9.80665f * 39.37f * 160f * 0.84f;
+    static final int MIN_DURATION_MILLIS = 100;
+
+    private final float mDensity;
+    private float mFriction;
+    private float mDeceleration;
+    private int mItemCount;
+    private int mDistance;
+    private int mDuration;
+
+    SnapFling(float density, float friction) {
+        mDensity = density;
+        setFriction(friction);
+    }
+
+    void setFriction(float friction) {
+        if (friction <= 0) {
+            throw new IllegalArgumentException("friction must be positive");
+        }
+        mFriction = friction;
+        mDeceleration = friction * PHYSICAL_COEFF_MDPI * mDensity;
+    }
+
+    float getFriction() {
+        return mFriction;
+    }
+
+    /**
+     * @param velocity     the release velocity in px/s, positive when the
+     *                     scroll offset grows
+     * @param offset       how far the scroll offset is from rest
+     * @param itemSize     the distance between two items
+     * @param maxForward   the items that can pass while the offset grows
+     * @param maxBackward  the items that can pass while the offset shrinks
+     */
+    void compute(float velocity, int offset, int itemSize, int maxForward, int maxBackward) {
+        float speed = Math.abs(velocity);
+        float travel = speed * speed / (2 * mDeceleration);
+        float target = offset + (velocity < 0 ? -travel : travel);
+        long items = Math.round((double) target / itemSize);
+        // Never turn back against the fling to reach the nearest item.
+        if (velocity > 0 && items * itemSize < offset) {
+            items++;
+        } else if (velocity < 0 && items * itemSize > offset) {
+            items--;
+        }
+        items = Math.max(-maxBackward, Math.min(maxForward, items));
+        mItemCount = (int) items;
+        mDistance = (int) (items * itemSize - offset);
+        if (mDistance == 0) {
+            mDuration = 0;
+        } else if (speed == 0 || (mDistance < 0) != (velocity < 0)) {
+            mDuration = MIN_DURATION_MILLIS;
+        } else {
+            mDuration = Math.max(MIN_DURATION_MILLIS, Math.round(2000f * Math.abs(mDistance) / speed));
+        }
+    }
+
+    /**
+     * @return the items the planned scroll passes, positive when the scroll
+     * offset grows
+     */
+    int getItemCount() {
+        return mItemCount;
+    }
+
+    /**
+     * @return the distance of the planned scroll, zero when the wheel
+     * already rests on the target
+     */
+    int getDistance() {
+        return mDistance;
+    }
+
+    int getDuration() {
+        return mDuration;
+    }
+}
@@ -0,0 +1,52 @@
+package com.rhino.wheel;
+
+/**
+ * Snaps item scales to a fixed number of evenly spaced buckets, so font
+ * metrics only need to be queried once per bucket instead of once per item
+ * and frame.
+ **/
+final class TextSizeBuckets {
+
+    private final float mMinScale;
+    private final float mMaxScale;
+    private final float[] mScales;
+
+    /**
+     * @param count    the number of buckets, at least 2
+     * @param minScale the scale of the first bucket
+     * @param maxScale the scale of the last bucket
+     */
+    TextSizeBuckets(int count, float minScale, float maxScale) {
+        if (count < 2) {
+            throw new IllegalArgumentException("count must be >= 2");
+        }
+        this.mMinScale = minScale;
+        this.mMaxScale = maxScale;
+        mScales = new float[count];
+        for (int i = 0; i < count; i++) {
+            mScales[i] = minScale + (maxScale - minScale) * i / (count - 1);
+        }
+    }
+
+    int size() {
+        return mScales.length;
+    }
+
+    /**
+     * @return the bucket nearest to {@code scale}, scales out of range are clamped
+     */
+    int indexOf(float scale) {
+        if (scale <= mMinScale) {
+            return 0;
+        }
+        int last = mScales.length - 1;
+        if (scale >= mMaxScale) {
+            return last;
+        }
+        return Math.round((scale - mMinScale) / (mMaxScale - mMinScale) * last);
+    }
+
+    float scaleAt(int index) {
+        return mScales[index];
+    }
+}
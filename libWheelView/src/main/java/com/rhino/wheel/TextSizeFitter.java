@@ -0,0 +1,148 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.text.TextUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the text size at which a text fits a given width.
+ * <p>
+ * Sizes are found with a bounded binary search and memoized process-wide by
+ * (text, max width, typeface, paint flags), so relayouts and wheels with the
+ * same content reuse the result instead of measuring again.
+ **/
+final class TextSizeFitter {
+
+    static final int MAX_CACHE_SIZE = 128;
+    private static final int MAX_TEXT_SIZE = 1 << 14;
+
+    private static final Paint sMeasurePaint = new Paint();
+    private static final Map<Key, Integer> sCache = new LinkedHashMap<Key, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Integer> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    private TextSizeFitter() {
+    }
+
+    /**
+     * Returns the text size for {@code text} to fit {@code maxWidth}, measured
+     * with the typeface and flags of {@code paint}.
+     * <p>
+     * The result is one size below the largest fitting size, the same margin
+     * the previous linear search kept.
+     *
+     * @param paint    the paint the text is drawn with
+     * @param maxWidth the available width in pixels
+     * @param text     the text to fit
+     * @return the text size, 0 if nothing fits
+     */
+    static int fitTextSize(Paint paint, int maxWidth, String text) {
+        if (maxWidth <= 0 || TextUtils.isEmpty(text)) {
+            return 0;
+        }
+        Key key = new Key(text, maxWidth, paint.getTypeface(), paint.getFlags());
+        synchronized (sCache) {
+            Integer cached = sCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            sMeasurePaint.setTypeface(key.typeface);
+            sMeasurePaint.setFlags(key.flags);
+            int textSize = Math.max(0, searchLargestFit(maxWidth, text) - 1);
+            sCache.put(key, textSize);
+            return textSize;
+        }
+    }
+
+    static int getCacheSize() {
+        synchronized (sCache) {
+            return sCache.size();
+        }
+    }
+
+    static void clearCache() {
+        synchronized (sCache) {
+            sCache.clear();
+        }
+    }
+
+    private static int searchLargestFit(int maxWidth, String text) {
+        // Text width grows linearly with size, so one measurement gives a
+        // close upper bound; widen it in case hinting makes it a bit short.
+        int hi = Math.min(MAX_TEXT_SIZE, estimateSize(maxWidth, text) + 2);
+        while (hi < MAX_TEXT_SIZE && fits(hi, maxWidth, text)) {
+            hi = Math.min(MAX_TEXT_SIZE, hi * 2);
+        }
+        if (fits(hi, maxWidth, text)) {
+            return hi;
+        }
+        int lo = 0;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (fits(mid, maxWidth, text)) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int estimateSize(int maxWidth, String text) {
+        sMeasurePaint.setTextSize(100);
+        float width = sMeasurePaint.measureText(text);
+        if (width <= 0) {
+            return MAX_TEXT_SIZE;
+        }
+        return (int) Math.min(MAX_TEXT_SIZE, maxWidth * 100f / width);
+    }
+
+    private static boolean fits(int textSize, int maxWidth, String text) {
+        sMeasurePaint.setTextSize(textSize);
+        return (int) sMeasurePaint.measureText(text) <= maxWidth;
+    }
+
+    private static final class Key {
+        final String text;
+        final int maxWidth;
+        final Typeface typeface;
+        final int flags;
+
+        Key(String text, int maxWidth, Typeface typeface, int flags) {
+            this.text = text;
+            this.maxWidth = maxWidth;
+            this.typeface = typeface;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return maxWidth == key.maxWidth
+                    && flags == key.flags
+                    && text.equals(key.text)
+                    && (typeface == null ? key.typeface == null : typeface.equals(key.typeface));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = text.hashCode();
+            result = 31 * result + maxWidth;
+            result = 31 * result + (typeface != null ? typeface.hashCode() : 0);
+            result = 31 * result + flags;
+            return result;
+        }
+    }
+}
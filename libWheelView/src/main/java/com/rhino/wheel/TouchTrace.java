@@ -0,0 +1,132 @@
+package com.rhino.wheel;
+
+import android.view.MotionEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A recorded single pointer gesture, to replay the touch handling of a
+ * {@link WheelView} off the device.
+ * <p>
+ * Record with an {@code OnTouchListener} that passes every event to
+ * {@link #add(MotionEvent)} and returns false. Only the first pointer is
+ * recorded, batched move samples as moves of their own. The text format has a header
+ * line followed by one {@code "<dt> <action> <x> <y>"} line per event, where
+ * {@code dt} is the milliseconds since the previous event.
+ **/
+public final class TouchTrace {
+
+    private static final String HEADER = "wheeltrace 1";
+
+    private final List<Event> mEvents = new ArrayList<>();
+    private long mStartTime;
+
+    public static final class Event {
+        /**
+         * Milliseconds since the first event of the trace.
+         */
+        public final long time;
+        public final int action;
+        public final float x;
+        public final float y;
+
+        Event(long time, int action, float x, float y) {
+            this.time = time;
+            this.action = action;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    public void add(MotionEvent event) {
+        int historySize = event.getHistorySize();
+        if (mEvents.isEmpty()) {
+            mStartTime = historySize > 0 ? event.getHistoricalEventTime(0) : event.getEventTime();
+        }
+        for (int h = 0; h < historySize; h++) {
+            add(event.getHistoricalEventTime(h) - mStartTime, MotionEvent.ACTION_MOVE,
+                    event.getHistoricalX(h), event.getHistoricalY(h));
+        }
+        add(event.getEventTime() - mStartTime, event.getActionMasked(), event.getX(), event.getY());
+    }
+
+    /**
+     * @param time milliseconds since the first event, not before the last event
+     */
+    public void add(long time, int action, float x, float y) {
+        if (!mEvents.isEmpty() && time < mEvents.get(mEvents.size() - 1).time) {
+            throw new IllegalArgumentException("events must be added in time order");
+        }
+        mEvents.add(new Event(time, action, x, y));
+    }
+
+    public int size() {
+        return mEvents.size();
+    }
+
+    public Event get(int index) {
+        return mEvents.get(index);
+    }
+
+    public void clear() {
+        mEvents.clear();
+    }
+
+    public void write(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        long lastTime = 0;
+        for (Event event : mEvents) {
+            writer.write(Long.toString(event.time - lastTime));
+            writer.write(' ');
+            writer.write(Integer.toString(event.action));
+            writer.write(' ');
+            writer.write(formatCoordinate(event.x));
+            writer.write(' ');
+            writer.write(formatCoordinate(event.y));
+            writer.write('\n');
+            lastTime = event.time;
+        }
+        writer.flush();
+    }
+
+    public static TouchTrace read(Reader reader) throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        String line = in.readLine();
+        if (!HEADER.equals(line)) {
+            throw new IOException("not a touch trace: " + line);
+        }
+        TouchTrace trace = new TouchTrace();
+        long time = 0;
+        int lineNumber = 1;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(" ");
+            if (fields.length != 4) {
+                throw new IOException("bad event at line " + lineNumber + ": " + line);
+            }
+            try {
+                time += Long.parseLong(fields[0]);
+                trace.add(time, Integer.parseInt(fields[1]),
+                        Float.parseFloat(fields[2]), Float.parseFloat(fields[3]));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("bad event at line " + lineNumber + ": " + line, e);
+            }
+        }
+        return trace;
+    }
+
+    private static String formatCoordinate(float coordinate) {
+        int whole = (int) coordinate;
+        return whole == coordinate ? Integer.toString(whole) : Float.toString(coordinate);
+    }
+}
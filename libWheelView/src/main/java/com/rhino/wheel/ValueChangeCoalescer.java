@@ -0,0 +1,63 @@
+package com.rhino.wheel;
+
+/**
+ * Folds value changes between two frames into one change, from the value
+ * before the first change to the value after the latest one.
+ **/
+final class ValueChangeCoalescer {
+
+    private boolean mPending;
+    private int mFromValue;
+    private int mToValue;
+    private int mCrossedCount;
+
+    /**
+     * @param previous the value before the change
+     * @param current  the value after the change
+     * @param crossed  how many items the change moved over
+     * @return true if this is the first change since the last {@link #reset()},
+     * and a delivery should be scheduled
+     */
+    boolean add(int previous, int current, int crossed) {
+        boolean first = !mPending;
+        if (first) {
+            mPending = true;
+            mFromValue = previous;
+            mCrossedCount = 0;
+        }
+        mToValue = current;
+        mCrossedCount += crossed;
+        return first;
+    }
+
+    boolean isPending() {
+        return mPending;
+    }
+
+    /**
+     * @return true if the folded changes did not cancel each other out
+     */
+    boolean hasChanged() {
+        return mPending && mFromValue != mToValue;
+    }
+
+    int getFromValue() {
+        return mFromValue;
+    }
+
+    int getToValue() {
+        return mToValue;
+    }
+
+    /**
+     * @return how many intermediate values were crossed without being reported
+     */
+    int getSkippedCount() {
+        return Math.max(0, mCrossedCount - 1);
+    }
+
+    void reset() {
+        mPending = false;
+        mCrossedCount = 0;
+    }
+}
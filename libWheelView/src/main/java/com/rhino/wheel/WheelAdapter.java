@@ -0,0 +1,35 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+
+/**
+ * Supplies the items of a {@link WheelView}.
+ * <p>
+ * Items are requested by index only when they become visible, so an adapter
+ * can produce them lazily.
+ **/
+public interface WheelAdapter {
+
+    /**
+     * @return the number of items
+     */
+    int getItemCount();
+
+    /**
+     * @param index the item index, in [0, {@link #getItemCount()})
+     * @return the text of the item
+     */
+    CharSequence getItem(int index);
+
+    /**
+     * Returns the index of the widest item when the adapter can tell it
+     * without producing every item.
+     *
+     * @param paint the paint to measure with
+     * @return the index of the widest item, or -1 to let the wheel measure
+     * every item
+     */
+    default int getMaxWidthItemIndex(Paint paint) {
+        return -1;
+    }
+}
@@ -0,0 +1,187 @@
+package com.rhino.wheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wheels whose value range follows the values of other wheels, such as the
+ * day wheel of a date picker following the year and month wheels.
+ * <p>
+ * Value changes of the source wheels are collected until the next frame.
+ * Then the range of every affected wheel is resolved once, in the order the
+ * dependencies were added, and applied with {@link WheelView#setRange(int, int)}.
+ **/
+public class WheelGroup {
+
+    private final List<Dependency> mDependencies = new ArrayList<>();
+    private final Range mRange = new Range();
+    private final Runnable mApplyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mPostedWheel = null;
+            applyPendingChanges();
+        }
+    };
+    private WheelView mPostedWheel;
+    private boolean mApplying;
+
+    /**
+     * Resolves the range of a dependent wheel from the values of its sources.
+     */
+    public interface RangeResolver {
+        /**
+         * @param target the dependent wheel
+         * @param range  set it to the new range of the dependent wheel
+         */
+        void resolveRange(WheelView target, Range range);
+    }
+
+    public static final class Range {
+        private int mMinValue;
+        private int mMaxValue;
+
+        public void set(int minValue, int maxValue) {
+            this.mMinValue = minValue;
+            this.mMaxValue = maxValue;
+        }
+
+        public int getMinValue() {
+            return mMinValue;
+        }
+
+        public int getMaxValue() {
+            return mMaxValue;
+        }
+    }
+
+    private static final class Dependency {
+        final WheelView mTarget;
+        final RangeResolver mResolver;
+        final WheelView[] mSources;
+        final int[] mSourceValues;
+
+        Dependency(WheelView target, RangeResolver resolver, WheelView[] sources) {
+            this.mTarget = target;
+            this.mResolver = resolver;
+            this.mSources = sources;
+            this.mSourceValues = new int[sources.length];
+        }
+
+        boolean isSourceChanged() {
+            for (int i = 0; i < mSources.length; i++) {
+                if (mSources[i].getValue() != mSourceValues[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void saveSourceValues() {
+            for (int i = 0; i < mSources.length; i++) {
+                mSourceValues[i] = mSources[i].getValue();
+            }
+        }
+    }
+
+    /**
+     * Makes the range of {@code target} follow the values of {@code sources},
+     * and resolves it right away. Add the dependencies of a wheel before the
+     * dependencies that use it as a source.
+     *
+     * @param target   the wheel whose range changes
+     * @param resolver computes the range from the source values
+     * @param sources  the wheels whose values the range depends on
+     */
+    public void addDependency(WheelView target, RangeResolver resolver, WheelView... sources) {
+        if (null == target || null == resolver || sources.length == 0) {
+            throw new IllegalArgumentException("target, resolver and sources are required");
+        }
+        for (WheelView source : sources) {
+            if (source == target) {
+                throw new IllegalArgumentException("a wheel can not depend on itself");
+            }
+            WheelGroup group = source.getWheelGroup();
+            if (null != group && group != this) {
+                throw new IllegalArgumentException("a wheel can only belong to one group");
+            }
+        }
+        for (WheelView source : sources) {
+            source.setWheelGroup(this);
+        }
+        Dependency dependency = new Dependency(target, resolver, sources);
+        mDependencies.add(dependency);
+        applyDependency(dependency);
+    }
+
+    /**
+     * Removes every dependency, the ranges of the wheels stay as they are.
+     */
+    public void clear() {
+        cancelPendingChanges();
+        for (Dependency dependency : mDependencies) {
+            for (WheelView source : dependency.mSources) {
+                source.setWheelGroup(null);
+            }
+        }
+        mDependencies.clear();
+    }
+
+    /**
+     * Resolves the ranges changed since the last frame now, instead of on
+     * the next frame, for callers that read the dependent wheels right away.
+     */
+    public void applyPendingChanges() {
+        cancelPendingChanges();
+        mApplying = true;
+        try {
+            // A clamped target can change the source of a later dependency,
+            // so repeat until nothing changes, at most once per dependency.
+            boolean changed = true;
+            for (int pass = 0; changed && pass <= mDependencies.size(); pass++) {
+                changed = false;
+                for (Dependency dependency : mDependencies) {
+                    if (dependency.isSourceChanged()) {
+                        applyDependency(dependency);
+                        changed = true;
+                    }
+                }
+            }
+        } finally {
+            mApplying = false;
+        }
+    }
+
+    void onWheelValueChanged(WheelView wheel) {
+        if (mApplying || null != mPostedWheel) {
+            return;
+        }
+        mPostedWheel = wheel;
+        wheel.postOnAnimation(mApplyRunnable);
+    }
+
+    /**
+     * A detached wheel gets no more frames, so the changes waiting for its
+     * frame are resolved right away. Later changes post on the wheel that
+     * made them.
+     */
+    void onWheelDetached(WheelView wheel) {
+        if (wheel == mPostedWheel) {
+            applyPendingChanges();
+        }
+    }
+
+    private void cancelPendingChanges() {
+        if (null != mPostedWheel) {
+            mPostedWheel.removeCallbacks(mApplyRunnable);
+            mPostedWheel = null;
+        }
+    }
+
+    private void applyDependency(Dependency dependency) {
+        dependency.saveSourceValues();
+        Range range = mRange;
+        range.set(dependency.mTarget.getMinValue(), dependency.mTarget.getMaxValue());
+        dependency.mResolver.resolveRange(dependency.mTarget, range);
+        dependency.mTarget.setRange(range.getMinValue(), range.getMaxValue());
+    }
+}
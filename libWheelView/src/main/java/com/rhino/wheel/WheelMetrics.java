@@ -0,0 +1,235 @@
+package com.rhino.wheel;
+
+/**
+ * Counters of the work a {@link WheelView} does, collected only while set
+ * with {@link WheelView#setWheelMetrics(WheelMetrics)}.
+ * <p>
+ * Updated and read on the UI thread. Times are in nanoseconds.
+ **/
+public final class WheelMetrics {
+
+    private long mFrameCount;
+    private long mDrawTimeNanos;
+    private long mMaxDrawTimeNanos;
+    private long mItemsDrawn;
+    private int mFrameItemsDrawn;
+    private int mLastFrameItemsDrawn;
+
+    private long mScrollTickCount;
+    private long mScrollCrossings;
+    private int mMaxScrollCrossings;
+
+    private long mFlingCount;
+    private long mFlingTicks;
+    private int mCurrentFlingTicks;
+    private boolean mFlinging;
+
+    private long mLabelCacheHitCount;
+    private long mLabelCacheMissCount;
+
+    private long mSettleCount;
+    private long mSettleTimeNanos;
+    private long mMaxSettleTimeNanos;
+    private long mSettleStartNanos;
+
+    private long mLayoutPassCount;
+    private long mElidedFrameCount;
+
+    void onLayoutPass() {
+        mLayoutPassCount++;
+    }
+
+    void onFrameElided() {
+        mElidedFrameCount++;
+    }
+
+    void onItemDrawn() {
+        mFrameItemsDrawn++;
+    }
+
+    void onFrameDrawn(long drawTimeNanos) {
+        mFrameCount++;
+        mDrawTimeNanos += drawTimeNanos;
+        mMaxDrawTimeNanos = Math.max(mMaxDrawTimeNanos, drawTimeNanos);
+        mItemsDrawn += mFrameItemsDrawn;
+        mLastFrameItemsDrawn = mFrameItemsDrawn;
+        mFrameItemsDrawn = 0;
+    }
+
+    void onScrollTick(int crossings) {
+        mScrollTickCount++;
+        mScrollCrossings += crossings;
+        mMaxScrollCrossings = Math.max(mMaxScrollCrossings, crossings);
+    }
+
+    void onFlingStart() {
+        onFlingEnd();
+        mFlinging = true;
+        mCurrentFlingTicks = 0;
+    }
+
+    void onFlingTick() {
+        if (mFlinging) {
+            mCurrentFlingTicks++;
+        }
+    }
+
+    void onFlingEnd() {
+        if (!mFlinging) {
+            return;
+        }
+        mFlinging = false;
+        mFlingCount++;
+        mFlingTicks += mCurrentFlingTicks;
+    }
+
+    void onLabelLookup(boolean hit) {
+        if (hit) {
+            mLabelCacheHitCount++;
+        } else {
+            mLabelCacheMissCount++;
+        }
+    }
+
+    void onSettleStart(long nowNanos) {
+        mSettleStartNanos = nowNanos;
+    }
+
+    void onSettleCancel() {
+        mSettleStartNanos = 0;
+    }
+
+    void onSettleEnd(long nowNanos) {
+        if (mSettleStartNanos == 0) {
+            return;
+        }
+        long settleTimeNanos = nowNanos - mSettleStartNanos;
+        mSettleStartNanos = 0;
+        mSettleCount++;
+        mSettleTimeNanos += settleTimeNanos;
+        mMaxSettleTimeNanos = Math.max(mMaxSettleTimeNanos, settleTimeNanos);
+    }
+
+    public long getFrameCount() {
+        return mFrameCount;
+    }
+
+    public long getDrawTimeNanos() {
+        return mDrawTimeNanos;
+    }
+
+    public long getMaxDrawTimeNanos() {
+        return mMaxDrawTimeNanos;
+    }
+
+    public long getAverageDrawTimeNanos() {
+        return mFrameCount == 0 ? 0 : mDrawTimeNanos / mFrameCount;
+    }
+
+    public float getAverageItemsDrawnPerFrame() {
+        return mFrameCount == 0 ? 0f : (float) mItemsDrawn / mFrameCount;
+    }
+
+    public int getLastFrameItemsDrawn() {
+        return mLastFrameItemsDrawn;
+    }
+
+    /**
+     * @return how many scrollBy calls moved the wheel, each drag move or
+     * fling frame is one tick
+     */
+    public long getScrollTickCount() {
+        return mScrollTickCount;
+    }
+
+    public float getAverageCrossingsPerScrollTick() {
+        return mScrollTickCount == 0 ? 0f : (float) mScrollCrossings / mScrollTickCount;
+    }
+
+    public int getMaxCrossingsPerScrollTick() {
+        return mMaxScrollCrossings;
+    }
+
+    public long getFlingCount() {
+        return mFlingCount;
+    }
+
+    public float getAverageTicksPerFling() {
+        return mFlingCount == 0 ? 0f : (float) mFlingTicks / mFlingCount;
+    }
+
+    public long getLabelCacheHitCount() {
+        return mLabelCacheHitCount;
+    }
+
+    public long getLabelCacheMissCount() {
+        return mLabelCacheMissCount;
+    }
+
+    public float getLabelCacheHitRate() {
+        long lookups = mLabelCacheHitCount + mLabelCacheMissCount;
+        return lookups == 0 ? 0f : (float) mLabelCacheHitCount / lookups;
+    }
+
+    /**
+     * @return how many times the wheel settled on an item after the finger
+     * was lifted
+     */
+    public long getSettleCount() {
+        return mSettleCount;
+    }
+
+    /**
+     * @return the average time from lifting the finger to the wheel resting
+     * on an item, flings included
+     */
+    public long getAverageSettleTimeNanos() {
+        return mSettleCount == 0 ? 0 : mSettleTimeNanos / mSettleCount;
+    }
+
+    public long getMaxSettleTimeNanos() {
+        return mMaxSettleTimeNanos;
+    }
+
+    /**
+     * @return how many times the items were laid out and their text fitted
+     */
+    public long getLayoutPassCount() {
+        return mLayoutPassCount;
+    }
+
+    /**
+     * @return how many redraws were skipped because the items had not moved
+     * since the last frame
+     */
+    public long getElidedFrameCount() {
+        return mElidedFrameCount;
+    }
+
+    /**
+     * Sets every counter back to zero, an unfinished fling or settle is dropped.
+     */
+    public void reset() {
+        mFrameCount = 0;
+        mDrawTimeNanos = 0;
+        mMaxDrawTimeNanos = 0;
+        mItemsDrawn = 0;
+        mFrameItemsDrawn = 0;
+        mLastFrameItemsDrawn = 0;
+        mScrollTickCount = 0;
+        mScrollCrossings = 0;
+        mMaxScrollCrossings = 0;
+        mFlingCount = 0;
+        mFlingTicks = 0;
+        mCurrentFlingTicks = 0;
+        mFlinging = false;
+        mLabelCacheHitCount = 0;
+        mLabelCacheMissCount = 0;
+        mSettleCount = 0;
+        mSettleTimeNanos = 0;
+        mMaxSettleTimeNanos = 0;
+        mSettleStartNanos = 0;
+        mLayoutPassCount = 0;
+        mElidedFrameCount = 0;
+    }
+}
@@ -0,0 +1,230 @@
+package com.rhino.wheel;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Resources shared by wheels set up alike, such as the many wheels of a
+ * settings screen. Set it with {@link WheelView#setResourcePool(WheelResourcePool)}.
+ * <p>
+ * Wheels in a pool share the widest item of the same displayed values array
+ * measured with the same typeface and flags, the labels of small non-negative numbers, and the paints they measure
+ * with. Text size fits are shared by every wheel already, the pool only
+ * accounts for them. Scrollers and the draw paint stay per wheel, they hold
+ * the state of one view.
+ * <p>
+ * Measure paints are for the UI thread, everything else may be used from
+ * any thread.
+ **/
+public final class WheelResourcePool {
+
+    /**
+     * Numbers in [0, NUMERIC_LABEL_TABLE_SIZE) share their labels.
+     */
+    static final int NUMERIC_LABEL_TABLE_SIZE = 4096;
+    private static final int STRING_BYTES = 40;
+    private static final int CHAR_BYTES = 2;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int MAP_ENTRY_BYTES = 48;
+    private static final int PAINT_BYTES = 256;
+    private static final int TEXT_SIZE_FIT_BYTES = 128;
+
+    private static final WheelResourcePool sDefault = new WheelResourcePool();
+
+    private final Object mLock = new Object();
+    private String[] mNumericLabels;
+    private int mNumericLabelCount;
+    private long mNumericLabelBytes;
+    private final Map<CharSequence[], Map<PaintStyle, CharSequence>> mMaxWidthItems = new WeakHashMap<>();
+    private final Map<PaintStyle, Paint> mMeasurePaints = new HashMap<>();
+
+    /**
+     * What a measure paint shares with the paint the text is drawn with.
+     */
+    private static final class PaintStyle {
+        final Typeface typeface;
+        final int flags;
+
+        PaintStyle(Typeface typeface, int flags) {
+            this.typeface = typeface;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PaintStyle)) {
+                return false;
+            }
+            PaintStyle style = (PaintStyle) o;
+            return flags == style.flags
+                    && (typeface == null ? style.typeface == null : typeface.equals(style.typeface));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (typeface != null ? typeface.hashCode() : 0) + flags;
+        }
+    }
+
+    /**
+     * @return the pool of the process, for wheels on any screen
+     */
+    public static WheelResourcePool getDefault() {
+        return sDefault;
+    }
+
+    CharSequence getNumericLabel(int value) {
+        if (value < 0 || value >= NUMERIC_LABEL_TABLE_SIZE) {
+            return String.valueOf(value);
+        }
+        synchronized (mLock) {
+            if (null == mNumericLabels) {
+                mNumericLabels = new String[NUMERIC_LABEL_TABLE_SIZE];
+            }
+            String label = mNumericLabels[value];
+            if (null == label) {
+                label = String.valueOf(value);
+                mNumericLabels[value] = label;
+                mNumericLabelCount++;
+                mNumericLabelBytes += STRING_BYTES + CHAR_BYTES * label.length();
+            }
+            return label;
+        }
+    }
+
+    /**
+     * Finds the widest item once per displayed values array and measure
+     * style, other adapters are measured every time.
+     *
+     * @param measurePaint a paint that only this call uses, its typeface and
+     *                     flags pick the shared result
+     */
+    CharSequence findMaxWidthItem(WheelAdapter adapter, Paint measurePaint) {
+        if (!(adapter instanceof ArrayWheelAdapter)) {
+            return PreparedContent.findMaxWidthItem(adapter, measurePaint);
+        }
+        CharSequence[] items = ((ArrayWheelAdapter) adapter).getItems();
+        PaintStyle style = new PaintStyle(measurePaint.getTypeface(), measurePaint.getFlags());
+        synchronized (mLock) {
+            Map<PaintStyle, CharSequence> maxWidthItems = mMaxWidthItems.get(items);
+            CharSequence maxWidthItem = null != maxWidthItems ? maxWidthItems.get(style) : null;
+            if (null != maxWidthItem) {
+                return maxWidthItem;
+            }
+        }
+        CharSequence maxWidthItem = PreparedContent.findMaxWidthItem(adapter, measurePaint);
+        synchronized (mLock) {
+            Map<PaintStyle, CharSequence> maxWidthItems = mMaxWidthItems.get(items);
+            if (null == maxWidthItems) {
+                maxWidthItems = new HashMap<>();
+                mMaxWidthItems.put(items, maxWidthItems);
+            }
+            maxWidthItems.put(style, maxWidthItem);
+        }
+        return maxWidthItem;
+    }
+
+    /**
+     * Forgets the widest items of the adapter in every style, after its
+     * items changed.
+     */
+    void evictMaxWidthItem(WheelAdapter adapter) {
+        if (adapter instanceof ArrayWheelAdapter) {
+            synchronized (mLock) {
+                mMaxWidthItems.remove(((ArrayWheelAdapter) adapter).getItems());
+            }
+        }
+    }
+
+    /**
+     * @param drawPaint the paint the wheel draws its text with
+     * @return a paint with the typeface and flags of {@code drawPaint}, shared
+     * by the wheels drawing alike, to measure with on the UI thread. Set its
+     * text size before every use.
+     */
+    Paint getMeasurePaint(Paint drawPaint) {
+        PaintStyle style = new PaintStyle(drawPaint.getTypeface(), drawPaint.getFlags());
+        synchronized (mLock) {
+            Paint paint = mMeasurePaints.get(style);
+            if (null == paint) {
+                paint = new Paint(style.flags);
+                paint.setTypeface(style.typeface);
+                mMeasurePaints.put(style, paint);
+            }
+            return paint;
+        }
+    }
+
+    public int getNumericLabelCount() {
+        synchronized (mLock) {
+            return mNumericLabelCount;
+        }
+    }
+
+    public int getMaxWidthItemCount() {
+        synchronized (mLock) {
+            return countMaxWidthItems();
+        }
+    }
+
+    /**
+     * Counts the widest items of the arrays still in use, under the lock.
+     */
+    private int countMaxWidthItems() {
+        int count = 0;
+        for (Map<PaintStyle, CharSequence> maxWidthItems : mMaxWidthItems.values()) {
+            count += maxWidthItems.size();
+        }
+        return count;
+    }
+
+    public int getMeasurePaintCount() {
+        synchronized (mLock) {
+            return mMeasurePaints.size();
+        }
+    }
+
+    /**
+     * @return the text size fits kept for every wheel of the process
+     */
+    public int getTextSizeFitCount() {
+        return TextSizeFitter.getCacheSize();
+    }
+
+    /**
+     * @return an estimate of the bytes the pool keeps, with the text size fits
+     */
+    public long getMemoryUsageBytes() {
+        long bytes;
+        synchronized (mLock) {
+            bytes = mNumericLabelBytes;
+            if (null != mNumericLabels) {
+                bytes += (long) REFERENCE_BYTES * mNumericLabels.length;
+            }
+            // The widest items belong to their arrays, only the entries count.
+            bytes += (long) MAP_ENTRY_BYTES * (mMaxWidthItems.size() + countMaxWidthItems());
+            bytes += (long) (MAP_ENTRY_BYTES + PAINT_BYTES) * mMeasurePaints.size();
+        }
+        return bytes + (long) TEXT_SIZE_FIT_BYTES * TextSizeFitter.getCacheSize();
+    }
+
+    /**
+     * Drops the shared labels and widest items, for low memory. Measure
+     * paints in use stay.
+     */
+    public void trimMemory() {
+        synchronized (mLock) {
+            mNumericLabels = null;
+            mNumericLabelCount = 0;
+            mNumericLabelBytes = 0;
+            mMaxWidthItems.clear();
+        }
+    }
+}
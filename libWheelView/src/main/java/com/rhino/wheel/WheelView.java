@@ -4,23 +4,30 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.LinearGradient;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Paint.FontMetricsInt;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
 import android.graphics.Rect;
+import android.graphics.Shader;
+import android.os.Build;
 import android.text.TextPaint;
 import android.text.TextUtils;
 import android.util.AttributeSet;
-import android.util.SparseArray;
 import android.view.MotionEvent;
 import android.view.VelocityTracker;
 import android.view.View;
 import android.view.ViewConfiguration;
 import android.view.animation.DecelerateInterpolator;
-import android.view.animation.LinearInterpolator;
 import android.widget.OverScroller;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.concurrent.Executor;
 
 
 /**
@@ -35,6 +42,9 @@ public class WheelView extends View {
 
     private static final int SELECTOR_ADJUSTMENT_DURATION_MILLIS = 800;
     private static final int SELECTOR_MAX_FLING_VELOCITY_ADJUSTMENT = 2;
+    private static final int DEFAULT_LABEL_CACHE_SIZE = 128;
+    private static final int DEFAULT_LABEL_ATLAS_MEMORY_BUDGET = 256 * 1024;
+    private static final int ITEM_FADE_GRADIENT_STOPS = 17;
     private static final int DEFAULT_ITEM_VERTICAL_HEIGHT = 40;
     private static final float DEFAULT_ITEM_MIN_ALPHA = 0.1f;
     private static final int DEFAULT_ITEM_TEXT_SIZE = 30;
@@ -50,6 +60,8 @@ public class WheelView extends View {
     private static final int DEFAULT_MIN_VALUE = 1;
     private static final int DEFAULT_MAX_VALUE = 10;
     private static final int DEFAULT_VALUE = 1;
+    private static final int MAX_WIDTH_MEASURE_TEXT_SIZE = 10;
+    private static final int INVALID_POINTER = -1;
     private int mItemVerticalHeight;
     private float mItemMinAlpha;
     private int mItemTextSize;
@@ -73,22 +85,73 @@ public class WheelView extends View {
 
     private TextPaint mPaint;
     private Rect mItemSelectLineRect;
+    private final Rect mItemBandRect = new Rect();
     private OverScroller mFlingScroller;
     private OverScroller mAdjustScroller;
+    private SnapFling mSnapFling;
+    private boolean mFlingSnapEnable;
     private VelocityTracker mVelocityTracker;
     private int[] mSelectorIndices;
+    private int mSelectorIndicesHead;
+    private ItemExtents mItemExtents;
+    private int[] mSelectorItemOffsets;
     private ItemRect[] mItemPostions;
-    private final SparseArray<String> mSelectorIndexToStringCache = new SparseArray<String>();
-    private String[] mItemsDrawContents;
+    private ItemProjection mItemProjection;
+    private boolean mItemCylinderEnable;
+    private CylinderProjection mCylinderProjection;
+    private CharSequence[] mSelectorLabels;
+    private final ItemLabelCache mLabelCache = new ItemLabelCache(DEFAULT_LABEL_CACHE_SIZE);
+    private LabelAtlas mLabelAtlas;
+    private boolean mLabelAtlasEnable;
+    private boolean mLabelAtlasReady;
+    private int mLabelAtlasMemoryBudget = DEFAULT_LABEL_ATLAS_MEMORY_BUDGET;
+    private int mTextSizeBucketCount;
+    private boolean mItemFadeShaderEnable;
+    private Paint mItemFadePaint;
+    private TextSizeBuckets mTextSizeBuckets;
+    private int[] mTextSizeBucketBaselines;
+    private WheelAdapter mAdapter;
+    private NumericLabel mNumericLabel;
+    private WheelResourcePool mResourcePool;
+    private Paint mMeasurePaint;
+    private CharSequence mMaxWidthItem = "";
+    private final FontMetricsInt mFontMetrics = new FontMetricsInt();
+    private boolean mLabelGeometryInvalid = true;
+    private float mLabelOffsetX;
+    private int mLabelBaseline;
 
     private float mLastDownEventX;
     private float mLastDownOrMoveEventX;
     private float mLastDownEventY;
     private float mLastDownOrMoveEventY;
+    private int mActivePointerId = INVALID_POINTER;
+    private int mTouchPredictionMillis;
     private int mLastScrollerX;
     private int mLastScrollerY;
     private int mScrollState;
     private OnValueChangeListener mOnValueChangeListener;
+    private OnValueChangeCoalescedListener mOnValueChangeCoalescedListener;
+    private final ValueChangeCoalescer mValueChangeCoalescer = new ValueChangeCoalescer();
+    private WheelGroup mWheelGroup;
+    private WheelMetrics mWheelMetrics;
+    private final Runnable mCoalescedChangeDispatcher = new Runnable() {
+        @Override
+        public void run() {
+            dispatchCoalescedChange();
+        }
+    };
+    private final Runnable mScrollTicker = new Runnable() {
+        @Override
+        public void run() {
+            mScrollTickerPosted = false;
+            computeScroll();
+        }
+    };
+    private boolean mScrollTickerPosted;
+    private boolean mItemsDrawn;
+    private int mDrawnScrollOffset;
+    private int mDrawnFirstIndex;
+    private int mDrawnValue;
     private OnValueChangeFinishListener changeFinishListener;
     private OnScrollListener mOnScrollListener;
 
@@ -99,6 +162,12 @@ public class WheelView extends View {
     private int mOffsetTotalHeight;
     private boolean mWheelEnableScrollOffset = true;
     private boolean mHandleScrollChange;
+    private int mScrollToValueStart;
+    private int mScrollToValueDistance;
+    private int mContentGeneration;
+    private boolean mEditing;
+    private boolean mLayoutPending;
+    private boolean mSelectorIndicesPending;
     private int mCurrentScrollOffset;
     private int mInitialScrollOffset;
     private int mSelectorElementSize;
@@ -154,6 +223,7 @@ public class WheelView extends View {
         int action = event.getAction() & MotionEvent.ACTION_MASK;
         switch (action) {
             case MotionEvent.ACTION_DOWN:
+                mActivePointerId = event.getPointerId(0);
                 mLastDownEventX = event.getX();
                 mLastDownEventY = event.getY();
                 if (!mFlingScroller.isFinished()) {
@@ -163,37 +233,72 @@ public class WheelView extends View {
                     mFlingScroller.forceFinished(true);
                     mAdjustScroller.forceFinished(true);
                 }
+                finishScrollToValue();
+                if (null != mWheelMetrics) {
+                    mWheelMetrics.onFlingEnd();
+                    mWheelMetrics.onSettleCancel();
+                }
                 getParent().requestDisallowInterceptTouchEvent(true);
                 onScrollStateChange(OnScrollListener.SCROLL_STATE_IDLE);
                 break;
             case MotionEvent.ACTION_MOVE: {
-                float currentMoveX = event.getX();
-                float currentMoveY = event.getY();
+                int pointerIndex = event.findPointerIndex(mActivePointerId);
+                if (pointerIndex < 0) {
+                    break;
+                }
                 if (mScrollState != OnScrollListener.SCROLL_STATE_TOUCH_SCROLL) {
-                    int deltaDown;
-                    if (mOrientation == VERTICAL) {
-                        deltaDown = (int) Math.abs(currentMoveY - mLastDownEventY);
-                    } else {
-                        deltaDown = (int) Math.abs(currentMoveX - mLastDownEventX);
-                    }
+                    // Start from the sample that crossed the slop, the samples
+                    // batched after it are scrolled right away.
+                    int historySize = event.getHistorySize();
+                    for (int h = 0; h <= historySize; h++) {
+                        float moveX = h < historySize ? event.getHistoricalX(pointerIndex, h) : event.getX(pointerIndex);
+                        float moveY = h < historySize ? event.getHistoricalY(pointerIndex, h) : event.getY(pointerIndex);
+                        int deltaDown;
+                        if (mOrientation == VERTICAL) {
+                            deltaDown = (int) Math.abs(moveY - mLastDownEventY);
+                        } else {
+                            deltaDown = (int) Math.abs(moveX - mLastDownEventX);
+                        }
 
-                    if (deltaDown > mTouchSlop) {
-                        onScrollStateChange(OnScrollListener.SCROLL_STATE_TOUCH_SCROLL);
+                        if (deltaDown > mTouchSlop) {
+                            onScrollStateChange(OnScrollListener.SCROLL_STATE_TOUCH_SCROLL);
+                            mLastDownOrMoveEventX = moveX;
+                            mLastDownOrMoveEventY = moveY;
+                            break;
+                        }
                     }
-                } else {
-                    int deltaMoveX = (int) (currentMoveX - mLastDownOrMoveEventX);
-                    int deltaMoveY = (int) (currentMoveY - mLastDownOrMoveEventY);
-                    scrollBy(deltaMoveX, deltaMoveY);
-                    invalidate();
                 }
-                mLastDownOrMoveEventX = currentMoveX;
-                mLastDownOrMoveEventY = currentMoveY;
+                if (mScrollState == OnScrollListener.SCROLL_STATE_TOUCH_SCROLL) {
+                    scrollByTouch(event.getX(pointerIndex), event.getY(pointerIndex));
+                }
+            }
+            break;
+            case MotionEvent.ACTION_POINTER_DOWN: {
+                // The last finger down drives the wheel.
+                int pointerIndex = event.getActionIndex();
+                mActivePointerId = event.getPointerId(pointerIndex);
+                resetTouchPosition(event.getX(pointerIndex), event.getY(pointerIndex));
+            }
+            break;
+            case MotionEvent.ACTION_POINTER_UP: {
+                int pointerIndex = event.getActionIndex();
+                if (event.getPointerId(pointerIndex) == mActivePointerId) {
+                    int newPointerIndex = pointerIndex == 0 ? 1 : 0;
+                    mActivePointerId = event.getPointerId(newPointerIndex);
+                    resetTouchPosition(event.getX(newPointerIndex), event.getY(newPointerIndex));
+                    mVelocityTracker.clear();
+                }
             }
             break;
             case MotionEvent.ACTION_UP:
+                if (null != mWheelMetrics) {
+                    mWheelMetrics.onSettleStart(System.nanoTime());
+                }
                 VelocityTracker velocityTracker = mVelocityTracker;
                 velocityTracker.computeCurrentVelocity(1000, mMaximumFlingVelocity);
-                int initialVelocity = mOrientation == VERTICAL ? (int) velocityTracker.getYVelocity() : (int) velocityTracker.getXVelocity();
+                int initialVelocity = mOrientation == VERTICAL
+                        ? (int) velocityTracker.getYVelocity(mActivePointerId)
+                        : (int) velocityTracker.getXVelocity(mActivePointerId);
                 if (Math.abs(initialVelocity) > mMinimumFlingVelocity) {
                     fling(initialVelocity);
                     onScrollStateChange(OnScrollListener.SCROLL_STATE_FLING);
@@ -207,6 +312,14 @@ public class WheelView extends View {
                     }
                     onScrollStateChange(OnScrollListener.SCROLL_STATE_IDLE);
                 }
+                mActivePointerId = INVALID_POINTER;
+                mVelocityTracker.recycle();
+                mVelocityTracker = null;
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                ensureScrollWheelAdjusted();
+                onScrollStateChange(OnScrollListener.SCROLL_STATE_IDLE);
+                mActivePointerId = INVALID_POINTER;
                 mVelocityTracker.recycle();
                 mVelocityTracker = null;
                 break;
@@ -216,10 +329,52 @@ public class WheelView extends View {
         return true;
     }
 
+    /**
+     * Scrolls the items after the finger, and ahead of it by the touch
+     * prediction. Only whole pixels are scrolled, the fraction left over is
+     * kept for the next move.
+     */
+    private void scrollByTouch(float x, float y) {
+        if (mTouchPredictionMillis > 0) {
+            mVelocityTracker.computeCurrentVelocity(1000, mMaximumFlingVelocity);
+            float lead = mTouchPredictionMillis / 1000f;
+            float maxLead = mSelectorElementSize;
+            x += Math.max(-maxLead, Math.min(maxLead, mVelocityTracker.getXVelocity(mActivePointerId) * lead));
+            y += Math.max(-maxLead, Math.min(maxLead, mVelocityTracker.getYVelocity(mActivePointerId) * lead));
+        }
+        int deltaMoveX = (int) (x - mLastDownOrMoveEventX);
+        int deltaMoveY = (int) (y - mLastDownOrMoveEventY);
+        mLastDownOrMoveEventX += deltaMoveX;
+        mLastDownOrMoveEventY += deltaMoveY;
+        scrollBy(deltaMoveX, deltaMoveY);
+    }
+
+    private void resetTouchPosition(float x, float y) {
+        mLastDownEventX = x;
+        mLastDownEventY = y;
+        mLastDownOrMoveEventX = x;
+        mLastDownOrMoveEventY = y;
+    }
+
+    /**
+     * Moves the items by {@code x} or {@code y} pixels, crossing any number
+     * of items in one step. While an {@link OnValueChangeListener} is set,
+     * every value crossed is still replayed to it, so a fling tick then
+     * costs one call per item crossed. Callers that fling a lot can listen
+     * through {@link #setOnValueChangeCoalescedListener} instead.
+     */
     @Override
     public void scrollBy(int x, int y) {
+        scrollItems(x, y);
+        invalidateItems();
+    }
+
+    private void scrollItems(int x, int y) {
         int space = mOrientation == VERTICAL ? y : x;
-        int[] selectorIndices = mSelectorIndices;
+        if (null != getItemExtents()) {
+            scrollVariableItems(space);
+            return;
+        }
         if (space > 0 && isDecrementToEnd()) {
             return;
         }
@@ -227,24 +382,125 @@ public class WheelView extends View {
             return;
         }
         mCurrentScrollOffset += space;
-        while (mCurrentScrollOffset - mInitialScrollOffset > mElementTrigSize) {
-            mCurrentScrollOffset -= mSelectorElementSize;
-            decrementSelectorIndices(selectorIndices);
-            setValueInternal(selectorIndices[mItemVisibleCount / 2], true);
-            if (isDecrementToEnd()) {
+        int crossings = 0;
+        int overflow = mCurrentScrollOffset - mInitialScrollOffset;
+        if (overflow > mElementTrigSize) {
+            int steps = (overflow - mElementTrigSize + mSelectorElementSize - 1) / mSelectorElementSize;
+            int allowed = Math.max(1, getSelectorIndex(mItemVisibleCount / 2) - mMinValue);
+            if (!mItemCyclicEnable && steps >= allowed) {
+                steps = allowed;
+                mCurrentScrollOffset = mInitialScrollOffset;
+            } else {
+                mCurrentScrollOffset -= steps * mSelectorElementSize;
+            }
+            moveSelectorIndices(-steps);
+            setValueFromSelectorIndices(-steps);
+            crossings = steps;
+        } else if (overflow < -mElementTrigSize) {
+            int steps = (-overflow - mElementTrigSize + mSelectorElementSize - 1) / mSelectorElementSize;
+            int allowed = Math.max(1, mMaxValue - getSelectorIndex(mItemVisibleCount / 2));
+            if (!mItemCyclicEnable && steps >= allowed) {
+                steps = allowed;
                 mCurrentScrollOffset = mInitialScrollOffset;
+            } else {
+                mCurrentScrollOffset += steps * mSelectorElementSize;
             }
+            moveSelectorIndices(steps);
+            setValueFromSelectorIndices(steps);
+            crossings = steps;
         }
-        while (mCurrentScrollOffset - mInitialScrollOffset < -mElementTrigSize) {
-            mCurrentScrollOffset += mSelectorElementSize;
-            incrementSelectorIndices(selectorIndices);
-            setValueInternal(selectorIndices[mItemVisibleCount / 2], true);
-            if (isIncrementToEnd()) {
-                mCurrentScrollOffset = mInitialScrollOffset;
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onScrollTick(crossings);
+        }
+    }
+
+    /**
+     * Scrolls a wheel whose items differ in height. The item under the
+     * center of the view is looked up in the prefix sums of the heights, so
+     * a fling frame costs the same however many items it crosses.
+     */
+    private void scrollVariableItems(int space) {
+        ItemExtents extents = mItemExtents;
+        int count = extents.size();
+        int selected = getSelectorIndex(mItemVisibleCount / 2) - mMinValue;
+        long center = (long) extents.getCenter(selected) - (mCurrentScrollOffset - mInitialScrollOffset) - space;
+        if (mItemCyclicEnable) {
+            center %= extents.getTotal();
+            if (center < 0) {
+                center += extents.getTotal();
             }
+        } else {
+            center = Math.max(extents.getCenter(0), Math.min(extents.getCenter(count - 1), center));
+        }
+        int target = extents.indexAt((int) center);
+        mCurrentScrollOffset = mInitialScrollOffset + extents.getCenter(target) - (int) center;
+        int steps = target - selected;
+        if (mItemCyclicEnable && space != 0 && steps != 0 && (steps > 0) != (space < 0)) {
+            steps += space < 0 ? count : -count;
+        }
+        if (steps != 0) {
+            moveSelectorIndices(steps);
+            setValueFromSelectorIndices(steps);
+            updateSelectorItemOffsets();
+        }
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onScrollTick(Math.abs(steps));
+        }
+    }
+
+    /**
+     * @return the item heights of a vertical wheel, null while the items
+     * all take the item vertical height
+     */
+    private ItemExtents getItemExtents() {
+        if (mOrientation != VERTICAL || null == mItemExtents
+                || mItemExtents.size() != mMaxValue - mMinValue + 1) {
+            return null;
+        }
+        return mItemExtents;
+    }
+
+    /**
+     * Moves each visible item from its place in a wheel of even items to its
+     * place between the items around it.
+     */
+    private void updateSelectorItemOffsets() {
+        if (null == mSelectorItemOffsets || mSelectorItemOffsets.length != mItemVisibleCount) {
+            mSelectorItemOffsets = new int[mItemVisibleCount];
+        }
+        int[] offsets = mSelectorItemOffsets;
+        ItemExtents extents = getItemExtents();
+        int middle = mItemVisibleCount / 2;
+        offsets[middle] = 0;
+        int center = 0;
+        for (int i = middle - 1; i >= 0; i--) {
+            int height = getSelectorItemHeight(extents, i);
+            center -= height - height / 2 + getSelectorItemHeight(extents, i + 1) / 2;
+            offsets[i] = center - (i - middle) * mSelectorElementSize;
+        }
+        center = 0;
+        for (int i = middle + 1; i < mItemVisibleCount; i++) {
+            int height = getSelectorItemHeight(extents, i - 1);
+            center += height - height / 2 + getSelectorItemHeight(extents, i) / 2;
+            offsets[i] = center - (i - middle) * mSelectorElementSize;
         }
     }
 
+    private int getSelectorItemHeight(ItemExtents extents, int position) {
+        int selectorIndex = getSelectorIndex(position);
+        if (null == extents || selectorIndex < mMinValue || selectorIndex > mMaxValue) {
+            return mSelectorElementSize;
+        }
+        return extents.getSize(selectorIndex - mMinValue);
+    }
+
+    /**
+     * @return the offset to draw the item at the position with
+     */
+    private int getItemScrollOffset(int position) {
+        return null == mSelectorItemOffsets ? mCurrentScrollOffset : mCurrentScrollOffset + mSelectorItemOffsets[position];
+    }
+
     @Override
     public void computeScroll() {
         OverScroller scroller = mFlingScroller;
@@ -255,36 +511,125 @@ public class WheelView extends View {
             }
         }
         scroller.computeScrollOffset();
+        if (null != mWheelMetrics && scroller == mFlingScroller) {
+            mWheelMetrics.onFlingTick();
+        }
+        int scrollOffset = mCurrentScrollOffset;
+        int space;
         if (mOrientation == VERTICAL) {
             int currentScrollerY = scroller.getCurrY();
             if (mLastScrollerY == 0) {
                 mLastScrollerY = scroller.getStartY();
             }
-            scrollBy(0, currentScrollerY - mLastScrollerY);
+            space = currentScrollerY - mLastScrollerY;
+            scrollItems(0, space);
             mLastScrollerY = currentScrollerY;
         } else {
             int currentScrollerX = scroller.getCurrX();
             if (mLastScrollerX == 0) {
                 mLastScrollerX = scroller.getStartX();
             }
-            scrollBy(currentScrollerX - mLastScrollerX, 0);
+            space = currentScrollerX - mLastScrollerX;
+            scrollItems(space, 0);
             mLastScrollerX = currentScrollerX;
         }
         if (scroller.isFinished()) {
             onScrollerFinished(scroller);
-        } else {
+        } else if (scroller == mFlingScroller && space != 0 && mCurrentScrollOffset == scrollOffset
+                && (space > 0 ? isDecrementToEnd() : isIncrementToEnd())) {
+            // The fling ran into the end of the wheel, the rest of it moves nothing.
+            scroller.forceFinished(true);
+            onScrollerFinished(scroller);
+        } else if (!invalidateItems() && !mScrollTickerPosted) {
+            // Nothing moved this frame, keep the scroller going without a redraw.
+            mScrollTickerPosted = true;
+            postOnAnimation(mScrollTicker);
+        }
+    }
+
+    /**
+     * Invalidates the items, unless they would be drawn exactly as they were
+     * in the last frame. The saving is in the frames skipped this way.
+     * <p>
+     * The item band is only passed on below Lollipop: from API 21 the view
+     * ignores the dirty rectangle and the whole view is invalidated anyway.
+     *
+     * @return true if the items were invalidated
+     */
+    @SuppressWarnings("deprecation")
+    private boolean invalidateItems() {
+        if (mItemsDrawn && mDrawnScrollOffset == mCurrentScrollOffset
+                && mDrawnFirstIndex == getSelectorIndex(0) && mDrawnValue == mValue) {
+            if (null != mWheelMetrics) {
+                mWheelMetrics.onFrameElided();
+            }
+            return false;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP || mItemBandRect.isEmpty()) {
             invalidate();
+        } else {
+            invalidate(mItemBandRect.left, mItemBandRect.top, mItemBandRect.right, mItemBandRect.bottom);
+        }
+        return true;
+    }
+
+    /**
+     * Sets the part of the view the items can be drawn in while scrolling,
+     * the label and the select lines stay where they are. Only used as the
+     * dirty rectangle below Lollipop.
+     */
+    private void updateItemBand() {
+        if (mOrientation == VERTICAL && null != getItemExtents()) {
+            mItemBandRect.set(0, 0, mViewWidth, mViewHeight);
+        } else if (mOrientation == VERTICAL) {
+            int top = Math.max(0, mOffsetTotalHeight - mSelectorElementSize);
+            int bottom = Math.min(mViewHeight, mOffsetTotalHeight + mTotalHeight + mSelectorElementSize);
+            mItemBandRect.set(0, top, mViewWidth, bottom);
+        } else {
+            int halfHeight = Math.min(mViewHeight / 2, mItemTextSize);
+            mItemBandRect.set(0, mViewHeight / 2 - halfHeight, mViewWidth, mViewHeight / 2 + halfHeight);
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        updateLabelAtlas();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        dispatchCoalescedChange();
+        if (null != mWheelGroup) {
+            mWheelGroup.onWheelDetached(this);
+        }
+        if (mScrollTickerPosted) {
+            removeCallbacks(mScrollTicker);
+            mScrollTickerPosted = false;
+        }
+        if (null != mLabelAtlas) {
+            mLabelAtlas.release();
+            mLabelAtlasReady = false;
         }
     }
 
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
+        long drawStartNanos = null != mWheelMetrics ? System.nanoTime() : 0;
         if (mOrientation == VERTICAL) {
             drawVertical(canvas);
         } else {
             drawHorizontal(canvas);
         }
+        mItemsDrawn = true;
+        mDrawnScrollOffset = mCurrentScrollOffset;
+        mDrawnFirstIndex = getSelectorIndex(0);
+        mDrawnValue = mValue;
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onFrameDrawn(System.nanoTime() - drawStartNanos);
+        }
     }
 
     private void init(Context context, AttributeSet attrs) {
@@ -315,16 +660,24 @@ public class WheelView extends View {
         mMinimumFlingVelocity = configuration.getScaledMinimumFlingVelocity();
         mMaximumFlingVelocity = configuration.getScaledMaximumFlingVelocity()
                 / SELECTOR_MAX_FLING_VELOCITY_ADJUSTMENT;
+        mSnapFling = new SnapFling(context.getResources().getDisplayMetrics().density,
+                ViewConfiguration.getScrollFriction());
 
-        mFlingScroller = new OverScroller(context, new LinearInterpolator());
+        // Only snapped flings use the interpolator, they decelerate evenly.
+        mFlingScroller = new OverScroller(context, new DecelerateInterpolator());
         mAdjustScroller = new OverScroller(context, new DecelerateInterpolator(2.5f));
 
         mPaint = new TextPaint();
         mPaint.setAntiAlias(true);
         mPaint.setStyle(Paint.Style.FILL_AND_STROKE);
         mPaint.setStrokeWidth(mItemSelectLineWidth);
+        mPaint.setFilterBitmap(true);
+
+        mMeasurePaint = newMeasurePaint();
+        mMeasurePaint.setTextSize(MAX_WIDTH_MEASURE_TEXT_SIZE);
 
         mSelectorIndices = new int[mItemVisibleCount];
+        mSelectorLabels = new CharSequence[mItemVisibleCount];
         mItemPostions = new ItemRect[mItemVisibleCount];
 
         mItemSelectLineRect = new Rect();
@@ -332,12 +685,19 @@ public class WheelView extends View {
     }
 
     private void initViewSize(int width, int height) {
+        if (deferLayout()) {
+            return;
+        }
         if (width <= 0 || height <= 0) {
             return;
         }
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onLayoutPass();
+        }
         mHalfWidth = mViewWidth / 2;
 
         initializeSelectorWheel();
+        mLabelGeometryInvalid = true;
         if (mOrientation == VERTICAL) {
             initVerticalItems();
             int itemLineWidth = mViewWidth;
@@ -359,6 +719,95 @@ public class WheelView extends View {
             mItemSelectLineRect.set((mViewWidth - mSelectorElementSize) / 2, (mViewHeight / 2 - itemLineHeight) / 2,
                     (mViewWidth + mSelectorElementSize) / 2, mViewHeight - (mViewHeight / 2 - itemLineHeight) / 2);
         }
+        updateItemBand();
+        updateTextSizeBuckets();
+        updateLabelAtlas();
+    }
+
+    private void updateTextSizeBuckets() {
+        if (deferLayout()) {
+            return;
+        }
+        if (mTextSizeBucketCount < 2) {
+            mTextSizeBuckets = null;
+            mTextSizeBucketBaselines = null;
+            return;
+        }
+        if (null == mTextSizeBuckets || mTextSizeBuckets.size() != mTextSizeBucketCount) {
+            mTextSizeBuckets = new TextSizeBuckets(mTextSizeBucketCount,
+                    ItemProjection.MIN_SCALE, ItemProjection.MAX_SCALE);
+            mTextSizeBucketBaselines = new int[mTextSizeBucketCount];
+        }
+        for (int i = 0; i < mTextSizeBucketCount; i++) {
+            mPaint.setTextSize(mTextSizeBuckets.scaleAt(i) * mItemTextSize);
+            mPaint.getFontMetricsInt(mFontMetrics);
+            mTextSizeBucketBaselines[i] = (mFontMetrics.bottom + mFontMetrics.top) / 2;
+        }
+    }
+
+    private void updateLabelAtlas() {
+        if (deferLayout()) {
+            return;
+        }
+        if (!mLabelAtlasEnable) {
+            if (null != mLabelAtlas) {
+                mLabelAtlas.release();
+                mLabelAtlas = null;
+            }
+            mLabelAtlasReady = false;
+            return;
+        }
+        if (mViewWidth <= 0 || mViewHeight <= 0) {
+            return;
+        }
+        if (null == mLabelAtlas) {
+            mLabelAtlas = new LabelAtlas();
+        }
+        mMeasurePaint.setTextSize(mItemTextSize);
+        float maxTextWidth = mMeasurePaint.measureText(mMaxWidthItem, 0, mMaxWidthItem.length());
+        mLabelAtlasReady = mLabelAtlas.configure(mPaint, mItemTextSize, maxTextWidth,
+                mLabelAtlasMemoryBudget, mItemVisibleCount + 2);
+    }
+
+    private void invalidateItemLabels() {
+        mLabelCache.clear();
+        if (null != mLabelAtlas) {
+            mLabelAtlas.clear();
+        }
+    }
+
+    private void drawItemText(Canvas canvas, int selectorIndex, CharSequence txt, float x, float y, float f) {
+        if (txt == mNumericLabel) {
+            mNumericLabel.set(getNumericLabelValue(selectorIndex));
+        }
+        if (txt.length() == 0) {
+            return;
+        }
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onItemDrawn();
+        }
+        int bucket = -1;
+        if (null != mTextSizeBuckets) {
+            bucket = mTextSizeBuckets.indexOf(f);
+            f = mTextSizeBuckets.scaleAt(bucket);
+        }
+        if (mLabelAtlasReady && mLabelAtlas.draw(canvas, selectorIndex, txt, x, y, f, mPaint)) {
+            return;
+        }
+        mPaint.setTextSize(f * mItemTextSize);
+        int baselineOffset;
+        if (bucket >= 0) {
+            baselineOffset = mTextSizeBucketBaselines[bucket];
+        } else {
+            mPaint.getFontMetricsInt(mFontMetrics);
+            baselineOffset = (mFontMetrics.bottom + mFontMetrics.top) / 2;
+        }
+        int baseline = (int) (y - baselineOffset);
+        if (txt == mNumericLabel) {
+            canvas.drawText(mNumericLabel.getChars(), 0, mNumericLabel.length(), x, baseline, mPaint);
+        } else {
+            canvas.drawText(txt, 0, txt.length(), x, baseline, mPaint);
+        }
     }
 
     private void initVerticalItems() {
@@ -367,26 +816,20 @@ public class WheelView extends View {
         final int itemCount = mItemVisibleCount;
         mTotalHeight = mItemVerticalHeight * mItemVisibleCount;
         mOffsetTotalHeight = (mViewHeight - mTotalHeight) / 2;
+        initItemProjection();
 
         for (int i = 0; i < mItemPostions.length; i++) {
-            ItemRect itemRect = new VerticalItemRect(i);
+            ItemRect itemRect = mItemCylinderEnable ? new CylinderItemRect(true) : new VerticalItemRect(i);
             itemRect.updateCenterCoorY(centerYCoor + (i - itemCount / 2) * mSelectorElementSize);
             itemRect.updateCenterCoorX(halfItemViewWidth);
             mItemPostions[i] = itemRect;
         }
-        if (null != mItemsDrawContents) {
-            String labelWidthString = TextUtils.isEmpty(mLabel) ? "" : mLabel + mLabel + " ";
-            String maxWidthString = getMaxWidthString(mItemsDrawContents) + labelWidthString;
-            float fac = mItemPostions[mItemVisibleCount / 2].getFac(0);
-            int txtMeasureSize = measureTextSize((int) (fac * mViewWidth), maxWidthString);
-//            int txtMeasureSize = measureTextSize(mViewWidth, maxWidthString);
-            if (txtMeasureSize < mItemTextSize) {
-                mItemTextSize = txtMeasureSize;
-            }
-            if (mItemSelectLineEnable) {
-                int maxTextSize = measureTextSize((int) (mViewWidth * mItemSelectLineLengthScale), maxWidthString);
-                if (maxTextSize < mItemTextSize) {
-                    mItemTextSize = maxTextSize;
+        if (null != mAdapter) {
+            String maxWidthString = mMaxWidthItem + getItemTextFitSuffix();
+            for (int fitWidth : getItemTextFitWidths()) {
+                int txtMeasureSize = measureTextSize(fitWidth, maxWidthString);
+                if (txtMeasureSize < mItemTextSize) {
+                    mItemTextSize = txtMeasureSize;
                 }
             }
         }
@@ -394,18 +837,21 @@ public class WheelView extends View {
 
     private void initHorizontalItems() {
         int halfItemViewWidth = mSelectorElementSize / 2;
+        initItemProjection();
         for (int i = 0; i < mItemPostions.length; i++) {
-            ItemRect itemRect = new HorizontalItemRect(mSelectorElementSize);
+            ItemRect itemRect = mItemCylinderEnable
+                    ? new CylinderItemRect(false) : new HorizontalItemRect(mSelectorElementSize);
             itemRect.updateCenterCoorY(mViewHeight / 2);
             itemRect.updateCenterCoorX(halfItemViewWidth + mSelectorElementSize * i);
             mItemPostions[i] = itemRect;
         }
-        if (null != mItemsDrawContents) {
-            String maxWidthString = getMaxWidthString(mItemsDrawContents);
-            float fac = mItemPostions[mItemVisibleCount / 2].getFac(0);
-            int txtMeasureSize = measureTextSize((int) (fac * mSelectorElementSize), maxWidthString);
-            if (txtMeasureSize < mItemTextSize) {
-                mItemTextSize = txtMeasureSize;
+        if (null != mAdapter) {
+            String maxWidthString = mMaxWidthItem + getItemTextFitSuffix();
+            for (int fitWidth : getItemTextFitWidths()) {
+                int txtMeasureSize = measureTextSize(fitWidth, maxWidthString);
+                if (txtMeasureSize < mItemTextSize) {
+                    mItemTextSize = txtMeasureSize;
+                }
             }
             if (mItemSelectLineEnable) {
                 int maxTextSize = (int) (mViewHeight * (0.5 - mItemSelectLineLengthScale));
@@ -416,7 +862,134 @@ public class WheelView extends View {
         }
     }
 
+    /**
+     * @return the widths the widest item has to fit in, the text size is
+     * shrunk until it does
+     */
+    private int[] getItemTextFitWidths() {
+        float fac = mItemPostions[mItemVisibleCount / 2].getFac(0);
+        if (mOrientation != VERTICAL) {
+            return new int[]{(int) (fac * mSelectorElementSize)};
+        }
+        if (mItemSelectLineEnable) {
+            return new int[]{(int) (fac * mViewWidth), (int) (mViewWidth * mItemSelectLineLengthScale)};
+        }
+        return new int[]{(int) (fac * mViewWidth)};
+    }
+
+    private String getItemTextFitSuffix() {
+        if (mOrientation == VERTICAL && !TextUtils.isEmpty(mLabel)) {
+            return mLabel + mLabel + " ";
+        }
+        return "";
+    }
+
+    private void initItemProjection() {
+        if (mOrientation == VERTICAL) {
+            int firstCenterY = mViewHeight / 2 - mItemVisibleCount / 2 * mSelectorElementSize;
+            int lastCenterY = firstCenterY + (mItemVisibleCount - 1) * mSelectorElementSize;
+            mItemProjection = ItemProjection.vertical(mViewHeight, mTotalHeight, mOffsetTotalHeight, mItemMinAlpha,
+                    firstCenterY - mSelectorElementSize, lastCenterY + mSelectorElementSize);
+            updateCylinderProjection(true, mViewHeight / 2, mTotalHeight, mViewWidth / 2,
+                    firstCenterY - mSelectorElementSize, lastCenterY + mSelectorElementSize);
+        } else {
+            int firstCenterX = mSelectorElementSize / 2;
+            int lastCenterX = firstCenterX + (mItemVisibleCount - 1) * mSelectorElementSize;
+            mItemProjection = ItemProjection.horizontal(mViewWidth, mHalfWidth, mItemMinAlpha,
+                    firstCenterX - mSelectorElementSize, lastCenterX + mSelectorElementSize);
+            updateCylinderProjection(false, mHalfWidth, mViewWidth, mViewHeight / 2,
+                    firstCenterX - mSelectorElementSize, lastCenterX + mSelectorElementSize);
+        }
+        initItemFadeShader();
+    }
+
+    /**
+     * Builds the cylinder table, unless the one in use was built for the
+     * same layout, as on a measure pass that changed nothing.
+     */
+    private void updateCylinderProjection(boolean vertical, int center, int arcSize, int crossCenter,
+                                          int from, int to) {
+        if (!mItemCylinderEnable) {
+            mCylinderProjection = null;
+        } else if (null == mCylinderProjection || !mCylinderProjection.isBuiltFor(vertical, center, arcSize,
+                crossCenter, mItemMinAlpha, from, to)) {
+            mCylinderProjection = new CylinderProjection(vertical, center, arcSize, crossCenter, mItemMinAlpha,
+                    from, to);
+        }
+    }
+
+    @VisibleForTesting
+    CylinderProjection getCylinderProjection() {
+        return mCylinderProjection;
+    }
+
+    /**
+     * Builds a mask that fades the items toward the ends of the wheel with
+     * the same alpha curve as the items, sampled along the scroll axis.
+     */
+    private void initItemFadeShader() {
+        if (!mItemFadeShaderEnable || null == mItemProjection) {
+            mItemFadePaint = null;
+            return;
+        }
+        int from;
+        int to;
+        if (mOrientation == VERTICAL) {
+            from = mOffsetTotalHeight;
+            to = mOffsetTotalHeight + mTotalHeight;
+        } else {
+            from = 0;
+            to = mViewWidth;
+        }
+        int[] colors = new int[ITEM_FADE_GRADIENT_STOPS];
+        float[] positions = new float[ITEM_FADE_GRADIENT_STOPS];
+        for (int i = 0; i < ITEM_FADE_GRADIENT_STOPS; i++) {
+            positions[i] = i / (ITEM_FADE_GRADIENT_STOPS - 1f);
+            int coor = from + Math.round((to - from) * positions[i]);
+            float alpha = null != mCylinderProjection ? mCylinderProjection.getAlpha(coor) : mItemProjection.getAlpha(coor);
+            colors[i] = (int) (Math.max(0f, Math.min(1f, alpha)) * 255) << 24;
+        }
+        Shader shader;
+        if (mOrientation == VERTICAL) {
+            shader = new LinearGradient(0, from, 0, to, colors, positions, Shader.TileMode.CLAMP);
+        } else {
+            shader = new LinearGradient(from, 0, to, 0, colors, positions, Shader.TileMode.CLAMP);
+        }
+        if (null == mItemFadePaint) {
+            mItemFadePaint = new Paint();
+            mItemFadePaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.DST_IN));
+        }
+        mItemFadePaint.setShader(shader);
+    }
+
+    /**
+     * @return the save count to pass to {@link #endItemFade}, or -1 when items
+     * fade one by one
+     */
+    @SuppressWarnings("deprecation")
+    private int beginItemFade(Canvas canvas) {
+        if (null == mItemFadePaint) {
+            return -1;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            return canvas.saveLayer(0, 0, mViewWidth, mViewHeight, null);
+        }
+        return canvas.saveLayer(0, 0, mViewWidth, mViewHeight, null, Canvas.ALL_SAVE_FLAG);
+    }
+
+    private void endItemFade(Canvas canvas, int saveCount) {
+        if (saveCount < 0) {
+            return;
+        }
+        canvas.drawRect(0, 0, mViewWidth, mViewHeight, mItemFadePaint);
+        canvas.restoreToCount(saveCount);
+    }
+
     private void drawHorizontal(Canvas canvas) {
+        if (mLabelAtlasReady) {
+            mLabelAtlas.nextFrame();
+        }
+        int fadeSaveCount = beginItemFade(canvas);
         for (int i = 0; i < mItemVisibleCount; i++) {
             mPaint.setStyle(Paint.Style.FILL);
             mPaint.setColor(mItemTextColor);
@@ -426,20 +999,26 @@ public class WheelView extends View {
             float x = ir.getDrawX(mCurrentScrollOffset);
             float y = ir.getRealY();
             float f = ir.getFac(mCurrentScrollOffset);
-            String txt = mSelectorIndexToStringCache.get(mSelectorIndices[i]);
-            int alpha = (int) (ir.getItemMinAlpha(mCurrentScrollOffset) * 255);
-
-            mPaint.setTextSize(f * mItemTextSize);
-
-            FontMetricsInt fontMetrics = mPaint.getFontMetricsInt();
-            int baseline = (int) (y - (fontMetrics.bottom + fontMetrics.top) / 2);
+            int selectorIndex = getSelectorIndex(i);
+            CharSequence txt = getSelectorLabel(i);
 
             if (null != txt) {
-                mPaint.setAlpha(alpha);
-                mPaint.setColor(mValue == mSelectorIndices[i] ? mItemSelectTextColor : mItemTextColor);
-                canvas.drawText(txt, x, baseline, mPaint);
+                mPaint.setColor(mValue == selectorIndex ? mItemSelectTextColor : mItemTextColor);
+                if (fadeSaveCount < 0) {
+                    mPaint.setAlpha((int) (ir.getItemMinAlpha(mCurrentScrollOffset) * 255));
+                }
+                Matrix matrix = ir.getMatrix(mCurrentScrollOffset);
+                if (null != matrix) {
+                    canvas.save();
+                    canvas.concat(matrix);
+                }
+                drawItemText(canvas, selectorIndex, txt, x, y, f);
+                if (null != matrix) {
+                    canvas.restore();
+                }
             }
         }
+        endItemFade(canvas, fadeSaveCount);
         if (mItemSelectLineEnable) {
             mPaint.setColor(mItemSelectLineColor);
             canvas.drawLine(mItemSelectLineRect.centerX(), mItemSelectLineRect.centerY() - mItemSelectLineRect.top,
@@ -450,39 +1029,48 @@ public class WheelView extends View {
     }
 
     private void drawVertical(Canvas canvas) {
+        if (mLabelAtlasReady) {
+            mLabelAtlas.nextFrame();
+        }
         mPaint.setStyle(Paint.Style.FILL);
         mPaint.setTextAlign(Align.CENTER);
 
+        int fadeSaveCount = beginItemFade(canvas);
         for (int i = 0; i < mItemVisibleCount; i++) {
             ItemRect ir = mItemPostions[i];
+            int offset = getItemScrollOffset(i);
             float x = ir.getRealX();
-            float y = mWheelEnableScrollOffset ? ir.getDrawY(mCurrentScrollOffset) : (mCurrentScrollOffset + ir.getRealY());
-            float f = ir.getFac(mCurrentScrollOffset);
-            String txt = mSelectorIndexToStringCache.get(mSelectorIndices[i]);
-            int alpha = (int) (ir.getItemMinAlpha(mCurrentScrollOffset) * 255);
-
-            mPaint.setTextSize(f * mItemTextSize);
-
-            FontMetricsInt fontMetrics = mPaint.getFontMetricsInt();
-            int baseline = (int) (y - (fontMetrics.bottom + fontMetrics.top) / 2);
+            float y = mWheelEnableScrollOffset ? ir.getDrawY(offset) : (offset + ir.getRealY());
+            float f = ir.getFac(offset);
+            int selectorIndex = getSelectorIndex(i);
+            CharSequence txt = getSelectorLabel(i);
 
             if (null != txt) {
-                mPaint.setAlpha(alpha);
-                mPaint.setColor(mValue == mSelectorIndices[i] ? mItemSelectTextColor : mItemTextColor);
-                canvas.drawText(txt, x, baseline, mPaint);
+                mPaint.setColor(mValue == selectorIndex ? mItemSelectTextColor : mItemTextColor);
+                if (fadeSaveCount < 0) {
+                    mPaint.setAlpha((int) (ir.getItemMinAlpha(offset) * 255));
+                }
+                Matrix matrix = ir.getMatrix(offset);
+                if (null != matrix) {
+                    canvas.save();
+                    canvas.concat(matrix);
+                }
+                drawItemText(canvas, selectorIndex, txt, x, y, f);
+                if (null != matrix) {
+                    canvas.restore();
+                }
             }
         }
+        endItemFade(canvas, fadeSaveCount);
         if (!TextUtils.isEmpty(mLabel)) {
             mPaint.setAlpha(255);
             mPaint.setColor(mItemLabelTextColor);
             mPaint.setTextSize(mItemTextSize);
+            if (mLabelGeometryInvalid) {
+                updateLabelGeometry();
+            }
             ItemRect ir = mItemPostions[mItemVisibleCount / 2];
-            String maxWidthString = getMaxWidthString(mItemsDrawContents);
-            float x = ir.getRealX() + mPaint.measureText(maxWidthString) / 2 + mPaint.measureText(" " + mLabel) / 2;
-            float y = mViewHeight / 2;
-            FontMetricsInt fontMetrics = mPaint.getFontMetricsInt();
-            int baseline = (int) (y - (fontMetrics.bottom + fontMetrics.top) / 2);
-            canvas.drawText(mLabel, x, baseline, mPaint);
+            canvas.drawText(mLabel, ir.getRealX() + mLabelOffsetX, mLabelBaseline, mPaint);
         }
         if (mItemSelectLineEnable) {
             mPaint.setColor(mItemSelectLineColor);
@@ -494,29 +1082,68 @@ public class WheelView extends View {
 
     private void checkInitItemsDrawContents() {
         int size = mMaxValue - mMinValue + 1;
-        if (mItemsDrawContents == null || mItemsDrawContents.length != size) {
-            mItemsDrawContents = new String[size];
-            for (int value = mMinValue; value <= mMaxValue; value++) {
-                mItemsDrawContents[value - mMinValue] = String.valueOf(value);
+        if (mAdapter == null || mAdapter.getItemCount() != size) {
+            if (mAdapter instanceof NumericWheelAdapter) {
+                ((NumericWheelAdapter) mAdapter).setRange(mMinValue, mMaxValue);
+            } else {
+                mAdapter = new NumericWheelAdapter(mMinValue, mMaxValue);
             }
             refreshWhenSetDisplayedValues();
         }
     }
 
+    private void updateMaxWidthItem() {
+        mLabelGeometryInvalid = true;
+        CharSequence maxWidthItem = null != mResourcePool
+                ? mResourcePool.findMaxWidthItem(mAdapter, mMeasurePaint)
+                : PreparedContent.findMaxWidthItem(mAdapter, mMeasurePaint);
+        mMaxWidthItem = formatNumericMaxWidthItem(maxWidthItem);
+    }
+
+    /**
+     * @return the widest numeric item as it is drawn in numeric label mode
+     */
+    private CharSequence formatNumericMaxWidthItem(CharSequence maxWidthItem) {
+        if (!isNumericLabelMode() || maxWidthItem.length() == 0) {
+            return maxWidthItem;
+        }
+        mNumericLabel.set(Integer.parseInt(maxWidthItem.toString()));
+        return mNumericLabel.toString();
+    }
+
+    private boolean isNumericLabelMode() {
+        return null != mNumericLabel && mAdapter instanceof NumericWheelAdapter;
+    }
+
+    private int getNumericLabelValue(int selectorIndex) {
+        NumericWheelAdapter adapter = (NumericWheelAdapter) mAdapter;
+        int index = Math.max(0, Math.min(adapter.getItemCount() - 1, selectorIndex - mMinValue));
+        return adapter.getMinValue() + index;
+    }
+
+    private void updateLabelGeometry() {
+        mMeasurePaint.setTextSize(mItemTextSize);
+        mLabelOffsetX = mMeasurePaint.measureText(mMaxWidthItem, 0, mMaxWidthItem.length()) / 2
+                + mMeasurePaint.measureText(" " + mLabel) / 2;
+        mMeasurePaint.getFontMetricsInt(mFontMetrics);
+        mLabelBaseline = mViewHeight / 2 - (mFontMetrics.bottom + mFontMetrics.top) / 2;
+        mLabelGeometryInvalid = false;
+    }
+
     @NonNull
-    private String getMaxWidthString(String... arrs) {
-        if (arrs == null) {
+    @VisibleForTesting
+    String getMaxWidthString(String... arrs) {
+        if (arrs == null || arrs.length == 0) {
             return "";
         }
         String txt;
-        Paint paint = new Paint();
-        paint.setTextSize(10);
+        mMeasurePaint.setTextSize(MAX_WIDTH_MEASURE_TEXT_SIZE);
         int idx = 0;
         float curw = 0;
         for (int i = 0; i < arrs.length; i++) {
             txt = arrs[i];
             if (null != txt && txt.length() > 0) {
-                float w = paint.measureText(txt);
+                float w = mMeasurePaint.measureText(txt);
                 if (w >= curw) {
                     curw = w;
                     idx = i;
@@ -526,35 +1153,22 @@ public class WheelView extends View {
         return arrs[idx];
     }
 
-    private int measureTextSize(final int maxWidth, String text) {
-        Paint paint = new Paint();
-        int textSize = 1;
-        if (maxWidth <= 0 || TextUtils.isEmpty(text)) {
-            textSize = 0;
-        } else {
-            for (; ; ) {
-                textSize++;
-                paint.setTextSize(textSize);
-                int mw = (int) paint.measureText(text);
-                if (mw > maxWidth) {
-                    textSize--;
-                    for (; ; ) {
-                        textSize--;
-                        paint.setTextSize(textSize);
-                        mw = (int) paint.measureText(text);
-                        if (mw <= maxWidth) {
-                            return textSize;
-                        }
-                    }
-                }
-            }
-        }
-        return textSize;
+    @VisibleForTesting
+    int measureTextSize(final int maxWidth, String text) {
+        return TextSizeFitter.fitTextSize(mPaint, maxWidth, text);
     }
 
     private void fling(int velocity) {
         mLastScrollerX = 0;
         mLastScrollerY = 0;
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onFlingStart();
+        }
+        if (mFlingSnapEnable && mSelectorElementSize > 0 && null == getItemExtents()) {
+            flingToItem(velocity);
+            invalidate();
+            return;
+        }
 
         if (mOrientation == VERTICAL) {
             if (velocity > 0) {
@@ -574,6 +1188,20 @@ public class WheelView extends View {
         invalidate();
     }
 
+    private void flingToItem(int velocity) {
+        int middle = getSelectorIndex(mItemVisibleCount / 2);
+        int maxForward = mItemCyclicEnable ? Integer.MAX_VALUE : Math.max(0, middle - mMinValue);
+        int maxBackward = mItemCyclicEnable ? Integer.MAX_VALUE : Math.max(0, mMaxValue - middle);
+        mSnapFling.compute(velocity, mCurrentScrollOffset - mInitialScrollOffset,
+                mSelectorElementSize, maxForward, maxBackward);
+        // A zero distance still finishes on the next frame and settles there.
+        if (mOrientation == VERTICAL) {
+            mFlingScroller.startScroll(0, 0, 0, mSnapFling.getDistance(), mSnapFling.getDuration());
+        } else {
+            mFlingScroller.startScroll(0, 0, mSnapFling.getDistance(), 0, mSnapFling.getDuration());
+        }
+    }
+
     private boolean ensureScrollWheelAdjusted() {
         if (null != changeFinishListener && !mHandleScrollChange) {
             changeFinishListener.onValueChange(this, mValue);
@@ -581,10 +1209,13 @@ public class WheelView extends View {
         mHandleScrollChange = false;
 
         int delta = mInitialScrollOffset - mCurrentScrollOffset;
+        if (delta == 0 && null != mWheelMetrics) {
+            mWheelMetrics.onSettleEnd(System.nanoTime());
+        }
         if (delta != 0) {
             mLastScrollerX = 0;
             mLastScrollerY = 0;
-            if (Math.abs(delta) > mSelectorElementSize / 2) {
+            if (null == getItemExtents() && Math.abs(delta) > mSelectorElementSize / 2) {
                 delta += (delta > 0) ? -mSelectorElementSize : mSelectorElementSize;
             }
             if (mOrientation == VERTICAL) {
@@ -601,18 +1232,47 @@ public class WheelView extends View {
 
     private void onScrollerFinished(OverScroller scroller) {
         if (scroller == mFlingScroller) {
+            if (null != mWheelMetrics) {
+                mWheelMetrics.onFlingEnd();
+            }
             ensureScrollWheelAdjusted();
             onScrollStateChange(OnScrollListener.SCROLL_STATE_IDLE);
         } else {
+            if (null != mWheelMetrics) {
+                mWheelMetrics.onSettleEnd(System.nanoTime());
+            }
+            finishScrollToValue();
             invalidate();
         }
     }
 
+    /**
+     * Ends a {@link #scrollToValue(int, boolean, long)} animation, finished
+     * or not, with one change from the value it started at.
+     */
+    private void finishScrollToValue() {
+        if (!mHandleScrollChange) {
+            return;
+        }
+        mHandleScrollChange = false;
+        int start = mScrollToValueStart;
+        if (start != mValue) {
+            notifyChange(start, mValue);
+            queueCoalescedChange(start, mValue, mScrollToValueDistance);
+        }
+        if (null != changeFinishListener) {
+            changeFinishListener.onValueChange(this, mValue);
+        }
+    }
+
     private void onScrollStateChange(int scrollState) {
         if (mScrollState == scrollState) {
             return;
         }
         mScrollState = scrollState;
+        if (scrollState == OnScrollListener.SCROLL_STATE_IDLE) {
+            dispatchCoalescedChange();
+        }
         if (mOnScrollListener != null) {
             mOnScrollListener.onScrollStateChange(this, scrollState);
         }
@@ -624,6 +1284,37 @@ public class WheelView extends View {
         }
     }
 
+    private void notifyGroupChange() {
+        if (null != mWheelGroup) {
+            mWheelGroup.onWheelValueChanged(this);
+        }
+    }
+
+    private void queueCoalescedChange(int previous, int current, int crossed) {
+        if (mOnValueChangeCoalescedListener == null || mHandleScrollChange) {
+            return;
+        }
+        if (mValueChangeCoalescer.add(previous, current, crossed)) {
+            postOnAnimation(mCoalescedChangeDispatcher);
+        }
+    }
+
+    private void dispatchCoalescedChange() {
+        ValueChangeCoalescer coalescer = mValueChangeCoalescer;
+        if (!coalescer.isPending()) {
+            return;
+        }
+        removeCallbacks(mCoalescedChangeDispatcher);
+        boolean changed = coalescer.hasChanged();
+        int from = coalescer.getFromValue();
+        int to = coalescer.getToValue();
+        int skipped = coalescer.getSkippedCount();
+        coalescer.reset();
+        if (changed && mOnValueChangeCoalescedListener != null) {
+            mOnValueChangeCoalescedListener.onValueChange(this, from, to, skipped);
+        }
+    }
+
 
     private void initializeSelectorWheel() {
         initializeSelectorWheelIndices();
@@ -632,6 +1323,9 @@ public class WheelView extends View {
 
         mSelectorElementSize = getSelectorElementSize();
         mElementTrigSize = mSelectorElementSize / 2;
+        if (null != mSelectorItemOffsets) {
+            updateSelectorItemOffsets();
+        }
     }
 
     private int getSelectorElementSize() {
@@ -656,43 +1350,129 @@ public class WheelView extends View {
         mValue = current;
         if (notifyChange) {
             notifyChange(previous, current);
+            queueCoalescedChange(previous, current, 1);
         }
+        notifyGroupChange();
         initializeSelectorWheelIndices();
-        invalidate();
+        invalidateItems();
+    }
+
+    /**
+     * Takes the value from the middle of the already rotated selector
+     * indices, without rebuilding them. The value change listener still
+     * hears about every item crossed.
+     *
+     * @param steps how many items the window moved, forward if positive
+     */
+    private void setValueFromSelectorIndices(int steps) {
+        int current = getSelectorIndex(mItemVisibleCount / 2);
+        int previous = mValue;
+        if (mOnValueChangeListener != null) {
+            for (int i = Math.abs(steps); i > 1; i--) {
+                int from = mValue;
+                mValue = getSteppedValue(from, steps > 0);
+                notifyChange(from, mValue);
+            }
+        }
+        int from = mValue;
+        mValue = current;
+        notifyChange(from, current);
+        queueCoalescedChange(previous, current, Math.abs(steps));
+        notifyGroupChange();
+    }
+
+    private int getSteppedValue(int value, boolean forward) {
+        if (forward) {
+            return mItemCyclicEnable && value >= mMaxValue ? mMinValue : value + 1;
+        }
+        return mItemCyclicEnable && value <= mMinValue ? mMaxValue : value - 1;
     }
 
     private boolean isDecrementToEnd() {
-        return !mItemCyclicEnable && mSelectorIndices[mItemVisibleCount / 2] <= mMinValue;
+        return !mItemCyclicEnable && getSelectorIndex(mItemVisibleCount / 2) <= mMinValue;
     }
 
     private boolean isIncrementToEnd() {
-        return !mItemCyclicEnable && mSelectorIndices[mItemVisibleCount / 2] >= mMaxValue;
+        return !mItemCyclicEnable && getSelectorIndex(mItemVisibleCount / 2) >= mMaxValue;
     }
 
-    private void incrementSelectorIndices(int[] selectorIndices) {
-        for (int i = 0; i < selectorIndices.length - 1; i++) {
-            selectorIndices[i] = selectorIndices[i + 1];
-        }
-        int nextScrollSelectorIndex = selectorIndices[selectorIndices.length - 2] + 1;
+    /**
+     * @param position the position in the visible window, 0 is the first item
+     * @return the selector index shown at the position
+     */
+    private int getSelectorIndex(int position) {
+        int i = mSelectorIndicesHead + position;
+        int length = mSelectorIndices.length;
+        return mSelectorIndices[i >= length ? i - length : i];
+    }
+
+    private CharSequence getSelectorLabel(int position) {
+        int i = mSelectorIndicesHead + position;
+        int length = mSelectorLabels.length;
+        return mSelectorLabels[i >= length ? i - length : i];
+    }
+
+    /**
+     * Moves the window one item forward. The indices are a ring buffer, so
+     * only the slot of the dropped first item is rewritten.
+     */
+    private void incrementSelectorIndices() {
+        int length = mSelectorIndices.length;
+        int nextScrollSelectorIndex = getSelectorIndex(length - 1) + 1;
         if (mItemCyclicEnable && nextScrollSelectorIndex > mMaxValue) {
             nextScrollSelectorIndex = mMinValue;
         }
-        selectorIndices[selectorIndices.length - 1] = nextScrollSelectorIndex;
+        int tail = mSelectorIndicesHead;
+        mSelectorIndicesHead = tail + 1 == length ? 0 : tail + 1;
+        mSelectorIndices[tail] = nextScrollSelectorIndex;
+        mSelectorLabels[tail] = ensureCachedScrollSelectorValue(nextScrollSelectorIndex);
     }
 
-    private void decrementSelectorIndices(int[] selectorIndices) {
-        for (int i = selectorIndices.length - 1; i > 0; i--) {
-            selectorIndices[i] = selectorIndices[i - 1];
-        }
-        int nextScrollSelectorIndex = selectorIndices[1] - 1;
+    private void decrementSelectorIndices() {
+        int length = mSelectorIndices.length;
+        int nextScrollSelectorIndex = getSelectorIndex(0) - 1;
         if (mItemCyclicEnable && nextScrollSelectorIndex < mMinValue) {
             nextScrollSelectorIndex = mMaxValue;
         }
-        selectorIndices[0] = nextScrollSelectorIndex;
+        mSelectorIndicesHead = mSelectorIndicesHead == 0 ? length - 1 : mSelectorIndicesHead - 1;
+        mSelectorIndices[mSelectorIndicesHead] = nextScrollSelectorIndex;
+        mSelectorLabels[mSelectorIndicesHead] = ensureCachedScrollSelectorValue(nextScrollSelectorIndex);
+    }
+
+    /**
+     * Moves the window by {@code steps} items, forward if positive. Moves
+     * longer than the window rebuild it once instead of rotating item by item.
+     */
+    private void moveSelectorIndices(int steps) {
+        int length = mSelectorIndices.length;
+        if (steps > -length && steps < length) {
+            for (; steps > 0; steps--) {
+                incrementSelectorIndices();
+            }
+            for (; steps < 0; steps++) {
+                decrementSelectorIndices();
+            }
+            return;
+        }
+        int first = steps > 0 ? getSelectorIndex(length - 1) + steps - length + 1 : getSelectorIndex(0) + steps;
+        mSelectorIndicesHead = 0;
+        for (int i = 0; i < length; i++) {
+            int selectorIndex = first + i;
+            if (mItemCyclicEnable) {
+                selectorIndex = getCyclicValue(selectorIndex);
+            }
+            mSelectorIndices[i] = selectorIndex;
+            mSelectorLabels[i] = ensureCachedScrollSelectorValue(selectorIndex);
+        }
     }
 
-    private void initializeSelectorWheelIndices() {
-        mSelectorIndexToStringCache.clear();
+    @VisibleForTesting
+    void initializeSelectorWheelIndices() {
+        if (mEditing) {
+            mSelectorIndicesPending = true;
+            return;
+        }
+        mSelectorIndicesHead = 0;
         int[] selectorIndices = mSelectorIndices;
         int current = getValue();
         for (int i = 0; i < mSelectorIndices.length; i++) {
@@ -701,11 +1481,26 @@ public class WheelView extends View {
                 selectorIndex = getWrappedSelectorIndex(selectorIndex);
             }
             selectorIndices[i] = selectorIndex;
-            ensureCachedScrollSelectorValue(selectorIndices[i]);
+            mSelectorLabels[i] = ensureCachedScrollSelectorValue(selectorIndex);
+        }
+        if (null != mSelectorItemOffsets || null != getItemExtents()) {
+            updateSelectorItemOffsets();
         }
     }
 
-    private int getWrappedSelectorIndex(int selectorIndex) {
+    /**
+     * Wraps a value into the range of a cyclic wheel, however many turns
+     * outside it is, unlike {@link #getWrappedSelectorIndex(int)} which only
+     * handles the neighbouring turns.
+     */
+    private int getCyclicValue(int value) {
+        int count = mMaxValue - mMinValue + 1;
+        int offset = (value - mMinValue) % count;
+        return mMinValue + (offset < 0 ? offset + count : offset);
+    }
+
+    @VisibleForTesting
+    int getWrappedSelectorIndex(int selectorIndex) {
         if (selectorIndex > mMaxValue) {
             return mMinValue + (selectorIndex - mMaxValue) % (mMaxValue - mMinValue) - 1;
         } else if (selectorIndex < mMinValue) {
@@ -714,29 +1509,48 @@ public class WheelView extends View {
         return selectorIndex;
     }
 
-    private void ensureCachedScrollSelectorValue(int selectorIndex) {
-        SparseArray<String> cache = mSelectorIndexToStringCache;
-        String scrollSelectorValue = cache.get(selectorIndex);
+    /**
+     * @return the label of the item, in numeric label mode the shared
+     * {@link NumericLabel}, set to the item when it is drawn
+     */
+    @VisibleForTesting
+    CharSequence ensureCachedScrollSelectorValue(int selectorIndex) {
+        if (selectorIndex < mMinValue || selectorIndex > mMaxValue) {
+            return "";
+        }
+        if (isNumericLabelMode()) {
+            return mNumericLabel;
+        }
+        ItemLabelCache cache = mLabelCache;
+        CharSequence scrollSelectorValue = cache.get(selectorIndex);
+        if (null != mWheelMetrics) {
+            mWheelMetrics.onLabelLookup(scrollSelectorValue != null);
+        }
         if (scrollSelectorValue != null) {
-            return;
+            return scrollSelectorValue;
         }
-        if (selectorIndex < mMinValue || selectorIndex > mMaxValue) {
-            scrollSelectorValue = "";
-        } else {
-            if (mItemsDrawContents != null) {
-                int displayedValueIndex = selectorIndex - mMinValue;
-                if (displayedValueIndex >= mItemsDrawContents.length) {
-                    displayedValueIndex = mItemsDrawContents.length - 1;
-                }
-                if (displayedValueIndex < 0) {
-                    displayedValueIndex = 0;
-                }
-                scrollSelectorValue = mItemsDrawContents[displayedValueIndex];
+        if (mAdapter != null && mAdapter.getItemCount() > 0) {
+            int displayedValueIndex = selectorIndex - mMinValue;
+            if (displayedValueIndex >= mAdapter.getItemCount()) {
+                displayedValueIndex = mAdapter.getItemCount() - 1;
+            }
+            if (displayedValueIndex < 0) {
+                displayedValueIndex = 0;
+            }
+            if (null != mResourcePool && mAdapter instanceof NumericWheelAdapter) {
+                scrollSelectorValue = mResourcePool.getNumericLabel(
+                        ((NumericWheelAdapter) mAdapter).getMinValue() + displayedValueIndex);
             } else {
-                scrollSelectorValue = "" + selectorIndex;
+                scrollSelectorValue = mAdapter.getItem(displayedValueIndex);
             }
+            if (scrollSelectorValue == null) {
+                scrollSelectorValue = "";
+            }
+        } else {
+            scrollSelectorValue = "" + selectorIndex;
         }
         cache.put(selectorIndex, scrollSelectorValue);
+        return scrollSelectorValue;
     }
 
     public interface ItemRect {
@@ -757,6 +1571,11 @@ public class WheelView extends View {
         float getFac(int offset);
 
         float getItemMinAlpha(int offset);
+
+        /**
+         * @return the transform to draw the item with, null to draw it as is
+         */
+        Matrix getMatrix(int offset);
     }
 
     private class VerticalItemRect implements ItemRect {
@@ -795,12 +1614,7 @@ public class WheelView extends View {
 
         @Override
         public int getDrawY(int offset) {
-            int cy = offset + mItemCenterCoorY;
-            if (cy > (mViewHeight / 2)) {
-                return (int) (mViewHeight - (mViewHeight - cy) * getFac(offset));
-            } else {
-                return (int) (getFac(offset) * cy);
-            }
+            return mItemProjection.getDrawCoor(mItemCenterCoorY + offset);
         }
 
         @Override
@@ -810,28 +1624,17 @@ public class WheelView extends View {
 
         @Override
         public float getFac(int offset) {
-            float fac = getFac1(offset);
-            fac = 0.6f + 0.4f * fac * fac;
-            return fac;
+            return mItemProjection.getScale(mItemCenterCoorY + offset);
         }
 
         @Override
         public float getItemMinAlpha(int offset) {
-            float fac = getFac1(offset);
-            fac = mItemMinAlpha + (1 - mItemMinAlpha) * fac * fac;
-            return fac;
+            return mItemProjection.getAlpha(mItemCenterCoorY + offset);
         }
 
-        private float getFac1(int offset) {
-            float fac;
-            int cy = mItemCenterCoorY + offset - mOffsetTotalHeight;
-            int halfHeight = mTotalHeight / 2;
-            if (cy > halfHeight) {
-                fac = (mTotalHeight - cy) / (mTotalHeight * 0.5f);
-            } else {
-                fac = cy / (mTotalHeight * 0.5f);
-            }
-            return fac;
+        @Override
+        public Matrix getMatrix(int offset) {
+            return null;
         }
     }
 
@@ -862,12 +1665,7 @@ public class WheelView extends View {
 
         @Override
         public int getDrawX(int offset) {
-            int curCoorX = mItemCenterCoorX + offset;
-            if (curCoorX > mHalfWidth) {
-                return (int) (mViewWidth - (mViewWidth - curCoorX) * getFac(offset));
-            } else {
-                return (int) (curCoorX * getFac(offset));
-            }
+            return mItemProjection.getDrawCoor(mItemCenterCoorX + offset);
         }
 
         @Override
@@ -887,28 +1685,85 @@ public class WheelView extends View {
 
         @Override
         public float getFac(int offset) {
-            int curCoorX = mItemCenterCoorX + offset;
-            float fac;
-            if (curCoorX > mHalfWidth) {
-                fac = (mViewWidth - curCoorX) / (mHalfWidth * 1f);
-            } else {
-                fac = curCoorX / (mHalfWidth * 1f);
-            }
-            fac = 0.6f + 0.4f * fac * fac;
-            return fac;
+            return mItemProjection.getScale(mItemCenterCoorX + offset);
         }
 
         @Override
         public float getItemMinAlpha(int offset) {
-            int curCoorX = mItemCenterCoorX + offset;
-            float fac;
-            if (curCoorX > mHalfWidth) {
-                fac = (mViewWidth - curCoorX) / (mHalfWidth * 1f);
-            } else {
-                fac = curCoorX / (mHalfWidth * 1f);
-            }
-            fac = mItemMinAlpha + (1 - mItemMinAlpha) * fac * fac;
-            return fac;
+            return mItemProjection.getAlpha(mItemCenterCoorX + offset);
+        }
+
+        @Override
+        public Matrix getMatrix(int offset) {
+            return null;
+        }
+    }
+
+    /**
+     * An item on the cylinder, drawn at full size and turned by its matrix.
+     */
+    private class CylinderItemRect implements ItemRect {
+
+        private final boolean mVertical;
+        private int mItemCenterCoorX;
+        private int mItemCenterCoorY;
+
+        public CylinderItemRect(boolean vertical) {
+            this.mVertical = vertical;
+        }
+
+        @Override
+        public void updateCenterCoorX(int x) {
+            this.mItemCenterCoorX = x;
+        }
+
+        @Override
+        public void updateCenterCoorY(int y) {
+            this.mItemCenterCoorY = y;
+        }
+
+        @Override
+        public int getRealX() {
+            return mItemCenterCoorX;
+        }
+
+        @Override
+        public int getDrawX(int offset) {
+            return mVertical ? mItemCenterCoorX : mCylinderProjection.getDrawCoor(mItemCenterCoorX + offset);
+        }
+
+        @Override
+        public int getRealY() {
+            return mItemCenterCoorY;
+        }
+
+        @Override
+        public int getDrawY(int offset) {
+            return mVertical ? mCylinderProjection.getDrawCoor(mItemCenterCoorY + offset) : mItemCenterCoorY;
+        }
+
+        @Override
+        public int getDrawSize(int offset) {
+            return 0;
+        }
+
+        @Override
+        public float getFac(int offset) {
+            return ItemProjection.MAX_SCALE;
+        }
+
+        @Override
+        public float getItemMinAlpha(int offset) {
+            return mCylinderProjection.getAlpha(getCoor(offset));
+        }
+
+        @Override
+        public Matrix getMatrix(int offset) {
+            return mCylinderProjection.getMatrix(getCoor(offset));
+        }
+
+        private int getCoor(int offset) {
+            return (mVertical ? mItemCenterCoorY : mItemCenterCoorX) + offset;
         }
     }
 
@@ -916,6 +1771,19 @@ public class WheelView extends View {
         void onValueChange(WheelView picker, int oldVal, int newVal);
     }
 
+    /**
+     * Hears about value changes at most once per frame, however many items
+     * a drag or fling crossed in it.
+     */
+    public interface OnValueChangeCoalescedListener {
+        /**
+         * @param oldVal       the value before the first change of the frame
+         * @param newVal       the value after the latest change of the frame
+         * @param skippedCount how many values in between were not reported
+         */
+        void onValueChange(WheelView picker, int oldVal, int newVal, int skippedCount);
+    }
+
     public interface OnValueChangeFinishListener {
         void onValueChange(WheelView picker, int value);
     }
@@ -938,11 +1806,13 @@ public class WheelView extends View {
         mMinValue = minValue;
         if (mMinValue > mValue) {
             mValue = mMinValue;
+            notifyGroupChange();
         }
     }
 
     public void setMinValue(int minValue) {
         changeMinValue(minValue);
+        invalidateItemLabels();
         checkInitItemsDrawContents();
         initializeSelectorWheelIndices();
         invalidate();
@@ -962,16 +1832,56 @@ public class WheelView extends View {
         mMaxValue = maxValue;
         if (mMaxValue < mValue) {
             mValue = mMaxValue;
+            notifyGroupChange();
         }
     }
 
     public void setMaxValue(int maxValue) {
         changeMaxValue(maxValue);
+        invalidateItemLabels();
         checkInitItemsDrawContents();
         initializeSelectorWheelIndices();
         invalidate();
     }
 
+    /**
+     * Sets both ends of the value range at once. When a numeric wheel keeps
+     * its min value, only items at the end are added or dropped. Labels are
+     * not regenerated and the scroll position is kept, so a day wheel going
+     * from 31 to 30 days stays cheap.
+     */
+    public void setRange(int minValue, int maxValue) {
+        if (minValue == mMinValue && maxValue == mMaxValue) {
+            return;
+        }
+        if (mAdapter instanceof NumericWheelAdapter && minValue == mMinValue
+                && ((NumericWheelAdapter) mAdapter).getMinValue() == minValue
+                && maxValue - minValue + 1 >= mItemVisibleCount) {
+            ((NumericWheelAdapter) mAdapter).setRange(minValue, maxValue);
+            changeMaxValue(maxValue);
+            updateMaxWidthItem();
+            updateLabelAtlas();
+            initializeSelectorWheelIndices();
+            invalidate();
+            return;
+        }
+        if (minValue > mMaxValue) {
+            setMaxValue(maxValue);
+            setMinValue(minValue);
+        } else {
+            setMinValue(minValue);
+            setMaxValue(maxValue);
+        }
+    }
+
+    void setWheelGroup(WheelGroup group) {
+        mWheelGroup = group;
+    }
+
+    WheelGroup getWheelGroup() {
+        return mWheelGroup;
+    }
+
     public int getMaxValue() {
         return mMaxValue;
     }
@@ -984,21 +1894,197 @@ public class WheelView extends View {
         return mValue;
     }
 
+    /**
+     * Scrolls to {@code value} the short way, wrapping around on a cyclic
+     * wheel. Values outside the range are wrapped into it on a cyclic wheel,
+     * as if counted on from the ends, and clamped to it otherwise. Only the
+     * last items before the value are animated, so a long distance takes as
+     * many frames as a short one. The listeners hear about one change, from
+     * the value the scroll started at to the new value.
+     *
+     * @param animated   false to jump to the value like {@link #setValue(int)}
+     * @param durationMs the length of the animation
+     */
+    public void scrollToValue(int value, boolean animated, long durationMs) {
+        if (!mFlingScroller.isFinished() || !mAdjustScroller.isFinished()) {
+            mFlingScroller.forceFinished(true);
+            mAdjustScroller.forceFinished(true);
+            if (null != mWheelMetrics) {
+                mWheelMetrics.onFlingEnd();
+                mWheelMetrics.onSettleCancel();
+            }
+        }
+        finishScrollToValue();
+        onScrollStateChange(OnScrollListener.SCROLL_STATE_IDLE);
+        int target;
+        if (mItemCyclicEnable) {
+            target = getCyclicValue(value);
+        } else {
+            target = Math.max(mMinValue, Math.min(mMaxValue, value));
+        }
+        int distance = target - mValue;
+        if (mItemCyclicEnable) {
+            int count = mMaxValue - mMinValue + 1;
+            if (distance > count / 2) {
+                distance -= count;
+            } else if (distance < -count / 2) {
+                distance += count;
+            }
+        }
+        mScrollToValueStart = mValue;
+        mScrollToValueDistance = Math.abs(distance);
+        mHandleScrollChange = true;
+        int offset = mCurrentScrollOffset - mInitialScrollOffset;
+        if (!animated || durationMs <= 0 || mSelectorElementSize <= 0) {
+            mCurrentScrollOffset = mInitialScrollOffset;
+            setValueInternal(target, false);
+            finishScrollToValue();
+            invalidate();
+            return;
+        }
+        int animatedItems = mItemVisibleCount;
+        if (Math.abs(distance) > animatedItems) {
+            // Skip the middle of the way, nobody could read it go by.
+            int skipped = distance > 0 ? distance - animatedItems : distance + animatedItems;
+            int skipValue = mValue + skipped;
+            mValue = mItemCyclicEnable ? getCyclicValue(skipValue) : skipValue;
+            initializeSelectorWheelIndices();
+            notifyGroupChange();
+            distance -= skipped;
+        }
+        int scroll = -getScrollDistance(distance) - offset;
+        int duration = (int) Math.min(durationMs, Integer.MAX_VALUE);
+        mLastScrollerX = 0;
+        mLastScrollerY = 0;
+        if (mOrientation == VERTICAL) {
+            mAdjustScroller.startScroll(0, 0, 0, scroll, duration);
+        } else {
+            mAdjustScroller.startScroll(0, 0, scroll, 0, duration);
+        }
+        invalidate();
+    }
+
+    /**
+     * @return the pixels between the center of the selected item and the
+     * item {@code distance} items after it
+     */
+    private int getScrollDistance(int distance) {
+        ItemExtents extents = getItemExtents();
+        if (null == extents) {
+            return distance * mSelectorElementSize;
+        }
+        int count = extents.size();
+        int from = mValue - mMinValue;
+        int to = from + distance;
+        int turns = to / count;
+        to %= count;
+        if (to < 0) {
+            to += count;
+            turns--;
+        }
+        return extents.getCenter(to) - extents.getCenter(from) + turns * extents.getTotal();
+    }
+
     public void setOrientation(int mOrientation) {
         this.mOrientation = mOrientation;
     }
 
     public void setItemVerticalHeight(int mItemVerticalHeight) {
         this.mItemVerticalHeight = mItemVerticalHeight;
+        if (null != mItemExtents) {
+            mItemExtents.setDefaultSize(mItemVerticalHeight);
+        }
         initViewSize(mViewWidth, mViewHeight);
     }
 
+    /**
+     * Gives one item of a vertical wheel a height of its own, such as a
+     * section header or a two line entry, in O(log n) for any number of
+     * items. The other items keep the item vertical height. The heights are
+     * dropped when the number of items changes.
+     *
+     * @param value  the value of the item
+     * @param height the height in pixels
+     */
+    public void setItemHeight(int value, int height) {
+        if (value < mMinValue || value > mMaxValue) {
+            throw new IllegalArgumentException("no item " + value + " in [" + mMinValue + ", " + mMaxValue + "]");
+        }
+        int count = mMaxValue - mMinValue + 1;
+        if (null == mItemExtents || mItemExtents.size() != count) {
+            mItemExtents = new ItemExtents(count, mItemVerticalHeight);
+            updateItemBand();
+        }
+        mItemExtents.setSize(value - mMinValue, height);
+        updateSelectorItemOffsets();
+        invalidate();
+    }
+
+    public int getItemHeight(int value) {
+        if (null == mItemExtents || mItemExtents.size() != mMaxValue - mMinValue + 1
+                || value < mMinValue || value > mMaxValue) {
+            return mItemVerticalHeight;
+        }
+        return mItemExtents.getSize(value - mMinValue);
+    }
+
+    /**
+     * Gives every item the item vertical height again.
+     */
+    public void clearItemHeights() {
+        if (null == mItemExtents) {
+            return;
+        }
+        mItemExtents = null;
+        mSelectorItemOffsets = null;
+        updateItemBand();
+        invalidate();
+    }
+
     public void setItemMinAlpha(float mItemMinAlpha) {
         this.mItemMinAlpha = mItemMinAlpha;
+        if (null != mItemProjection) {
+            initItemProjection();
+        }
+    }
+
+    /**
+     * Draws the items at full opacity and fades them toward the ends of the
+     * wheel with one gradient mask per frame, instead of an alpha per item.
+     */
+    public void setItemFadeShaderEnable(boolean enable) {
+        mItemFadeShaderEnable = enable;
+        initItemFadeShader();
+        invalidate();
+    }
+
+    public boolean isItemFadeShaderEnable() {
+        return mItemFadeShaderEnable;
+    }
+
+    /**
+     * Draws the items on a turning cylinder, tilted and foreshortened by a
+     * camera rotation, instead of shrinking them toward the ends.
+     */
+    public void setItemCylinderEnable(boolean enable) {
+        if (mItemCylinderEnable == enable) {
+            return;
+        }
+        mItemCylinderEnable = enable;
+        initViewSize(mViewWidth, mViewHeight);
+        invalidate();
+    }
+
+    public boolean isItemCylinderEnable() {
+        return mItemCylinderEnable;
     }
 
     public void setItemTextSize(int mItemTextSize) {
         this.mItemTextSize = mItemTextSize;
+        mLabelGeometryInvalid = true;
+        updateTextSizeBuckets();
+        updateLabelAtlas();
+        updateItemBand();
     }
 
     public void setItemTextColor(int mItemTextColor) {
@@ -1029,6 +2115,8 @@ public class WheelView extends View {
         mItemVisibleCount = (count <= 2 ? DEFAULT_ITEM_VISIBLE_COUNT : count);
         mItemPostions = new ItemRect[mItemVisibleCount];
         mSelectorIndices = new int[mItemVisibleCount];
+        mSelectorLabels = new CharSequence[mItemVisibleCount];
+        mSelectorIndicesHead = 0;
         initViewSize(mViewWidth, mViewHeight);
     }
 
@@ -1049,39 +2137,535 @@ public class WheelView extends View {
         return mItemCyclicEnable;
     }
 
+    /**
+     * Picks the item a fling stops on from the release velocity, and scrolls
+     * to it in one decelerating animation instead of a fling followed by an
+     * adjust animation.
+     */
+    public void setFlingSnapEnable(boolean enable) {
+        mFlingSnapEnable = enable;
+    }
+
+    public boolean isFlingSnapEnable() {
+        return mFlingSnapEnable;
+    }
+
+    /**
+     * @param friction the deceleration of snapped flings, in the units of
+     *                 {@link ViewConfiguration#getScrollFriction()}, which is
+     *                 the default
+     */
+    public void setFlingFriction(float friction) {
+        mSnapFling.setFriction(friction);
+    }
+
+    public float getFlingFriction() {
+        return mSnapFling.getFriction();
+    }
+
+    /**
+     * Drags the items ahead of the finger, to where it is expected to be
+     * when the frame shows, at most one item ahead.
+     *
+     * @param millis how far ahead to predict, about the touch to display
+     *               latency; 0, the default, follows the last touch sample
+     */
+    public void setTouchPredictionMillis(int millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("prediction must not be negative: " + millis);
+        }
+        this.mTouchPredictionMillis = millis;
+    }
+
+    public int getTouchPredictionMillis() {
+        return mTouchPredictionMillis;
+    }
+
     public int getScrollState() {
         return mScrollState;
     }
 
     public void setDisplayedValues(String[] displayedValues) {
-        mItemsDrawContents = displayedValues;
-        refreshWhenSetDisplayedValues();
+        setAdapter(null == displayedValues ? null : new ArrayWheelAdapter(displayedValues));
+    }
+
+    /**
+     * Sets the items to show, the value becomes the 1-based item position.
+     *
+     * @param adapter the adapter, null to show the numeric range
+     */
+    public void setAdapter(WheelAdapter adapter) {
+        mContentGeneration++;
+        mAdapter = null == adapter ? new NumericWheelAdapter(mMinValue, mMaxValue) : adapter;
+        refreshContent(null);
+    }
+
+    public void setDisplayedValuesAsync(String[] displayedValues, Executor executor) {
+        setAdapterAsync(null == displayedValues ? null : new ArrayWheelAdapter(displayedValues), executor);
+    }
+
+    /**
+     * Like {@link #setAdapter(WheelAdapter)}, but the items are measured on
+     * {@code executor}. The wheel keeps showing its current items until the
+     * new ones are measured, then switches to them in one step on the UI
+     * thread. Content set again meanwhile replaces this one.
+     *
+     * @param adapter  the adapter, read from the executor thread, null to show
+     *                 the numeric range
+     * @param executor runs the measuring off the UI thread
+     */
+    public void setAdapterAsync(WheelAdapter adapter, Executor executor) {
+        WheelAdapter newAdapter = null == adapter ? new NumericWheelAdapter(mMinValue, mMaxValue) : adapter;
+        boolean laidOut = mViewWidth > 0 && mViewHeight > 0 && null != mItemPostions[mItemVisibleCount / 2];
+        final PreparedContent content = new PreparedContent(newAdapter, ++mContentGeneration, mResourcePool, mPaint,
+                laidOut ? getItemTextFitWidths() : new int[0], getItemTextFitSuffix());
+        final Runnable publish = new Runnable() {
+            @Override
+            public void run() {
+                applyPreparedContent(content);
+            }
+        };
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                content.prepare();
+                post(publish);
+            }
+        });
+    }
+
+    private void applyPreparedContent(PreparedContent content) {
+        if (content.getGeneration() != mContentGeneration) {
+            return;
+        }
+        mAdapter = content.getAdapter();
+        refreshContent(content.getMaxWidthItem());
+    }
+
+    public WheelAdapter getAdapter() {
+        return mAdapter;
+    }
+
+    /**
+     * Draws the labels of a numeric wheel from one reused char buffer, so no
+     * String is created per item or frame. Has no effect while the wheel
+     * shows displayed values or another adapter.
+     *
+     * @param width   the least number of digits, shorter numbers are padded
+     * @param zeroPad pads with zeros instead of spaces
+     * @param prefix  drawn before the number, may be null
+     * @param suffix  drawn after the number, may be null
+     */
+    public void setNumericLabelFormat(int width, boolean zeroPad, String prefix, String suffix) {
+        mNumericLabel = new NumericLabel(width, zeroPad, prefix, suffix);
+        refreshItemLabels();
+    }
+
+    /**
+     * Goes back to the labels of the adapter.
+     */
+    public void clearNumericLabelFormat() {
+        mNumericLabel = null;
+        refreshItemLabels();
     }
 
+    /**
+     * Starts a batch of configuration changes. Nothing changes until
+     * {@link Editor#apply()}, which lays the wheel out and fits its text once
+     * for all of them, where each setter on its own would do it again.
+     */
+    public Editor edit() {
+        return new Editor(this);
+    }
+
+    /**
+     * @return true, and marks the layout to be redone, while an edit is applied
+     */
+    private boolean deferLayout() {
+        if (mEditing) {
+            mLayoutPending = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void applyEdit(Editor editor) {
+        if (mEditing) {
+            throw new IllegalStateException("apply() called while applying another edit");
+        }
+        mEditing = true;
+        try {
+            editor.applyTo();
+        } finally {
+            mEditing = false;
+        }
+        boolean layoutPending = mLayoutPending;
+        boolean selectorIndicesPending = mSelectorIndicesPending;
+        mLayoutPending = false;
+        mSelectorIndicesPending = false;
+        if (layoutPending && mViewWidth > 0 && mViewHeight > 0) {
+            initViewSize(mViewWidth, mViewHeight);
+        } else {
+            if (layoutPending || selectorIndicesPending) {
+                initializeSelectorWheelIndices();
+            }
+            if (layoutPending) {
+                updateTextSizeBuckets();
+                updateLabelAtlas();
+            }
+        }
+        invalidate();
+    }
+
+    /**
+     * Configuration changes recorded by {@link #edit()}. They are applied in
+     * the order of the setters below, whatever order they were called in.
+     */
+    public static final class Editor {
+        private static final int ORIENTATION = 1;
+        private static final int ITEM_VISIBLE_COUNT = 1 << 1;
+        private static final int ITEM_VERTICAL_HEIGHT = 1 << 2;
+        private static final int ITEM_SELECT_LINE_ENABLE = 1 << 3;
+        private static final int ITEM_SELECT_LINE_LENGTH_SCALE = 1 << 4;
+        private static final int ITEM_TEXT_SIZE = 1 << 5;
+        private static final int LABEL = 1 << 6;
+        private static final int ITEM_CYCLIC_ENABLE = 1 << 7;
+        private static final int ADAPTER = 1 << 8;
+        private static final int MIN_VALUE = 1 << 9;
+        private static final int MAX_VALUE = 1 << 10;
+        private static final int VALUE = 1 << 11;
+
+        private final WheelView mWheelView;
+        private int mChanges;
+        private int mOrientation;
+        private int mItemVisibleCount;
+        private int mItemVerticalHeight;
+        private boolean mItemSelectLineEnable;
+        private float mItemSelectLineLengthScale;
+        private int mItemTextSize;
+        private String mLabel;
+        private boolean mItemCyclicEnable;
+        private WheelAdapter mAdapter;
+        private int mMinValue;
+        private int mMaxValue;
+        private int mValue;
+
+        private Editor(WheelView wheelView) {
+            mWheelView = wheelView;
+        }
+
+        public Editor setOrientation(int orientation) {
+            mOrientation = orientation;
+            mChanges |= ORIENTATION;
+            return this;
+        }
+
+        public Editor setItemVisibleCount(int count) {
+            mItemVisibleCount = count;
+            mChanges |= ITEM_VISIBLE_COUNT;
+            return this;
+        }
+
+        public Editor setItemVerticalHeight(int height) {
+            mItemVerticalHeight = height;
+            mChanges |= ITEM_VERTICAL_HEIGHT;
+            return this;
+        }
+
+        public Editor setItemSelectLineEnable(boolean show) {
+            mItemSelectLineEnable = show;
+            mChanges |= ITEM_SELECT_LINE_ENABLE;
+            return this;
+        }
+
+        public Editor setItemSelectLineLengthScale(float scale) {
+            mItemSelectLineLengthScale = scale;
+            mChanges |= ITEM_SELECT_LINE_LENGTH_SCALE;
+            return this;
+        }
+
+        public Editor setItemTextSize(int textSize) {
+            mItemTextSize = textSize;
+            mChanges |= ITEM_TEXT_SIZE;
+            return this;
+        }
+
+        public Editor setLabel(String label) {
+            mLabel = label;
+            mChanges |= LABEL;
+            return this;
+        }
+
+        public Editor setItemCyclicEnable(boolean cyclic) {
+            mItemCyclicEnable = cyclic;
+            mChanges |= ITEM_CYCLIC_ENABLE;
+            return this;
+        }
+
+        public Editor setDisplayedValues(String[] displayedValues) {
+            return setAdapter(null == displayedValues ? null : new ArrayWheelAdapter(displayedValues));
+        }
+
+        /**
+         * @param adapter the adapter, null to show the numeric range
+         */
+        public Editor setAdapter(WheelAdapter adapter) {
+            mAdapter = adapter;
+            mChanges |= ADAPTER;
+            return this;
+        }
+
+        public Editor setMinValue(int minValue) {
+            mMinValue = minValue;
+            mChanges |= MIN_VALUE;
+            return this;
+        }
+
+        public Editor setMaxValue(int maxValue) {
+            mMaxValue = maxValue;
+            mChanges |= MAX_VALUE;
+            return this;
+        }
+
+        public Editor setValue(int value) {
+            mValue = value;
+            mChanges |= VALUE;
+            return this;
+        }
+
+        /**
+         * Applies the recorded changes, then lays the wheel out once.
+         */
+        public void apply() {
+            mWheelView.applyEdit(this);
+        }
+
+        private boolean has(int change) {
+            return (mChanges & change) != 0;
+        }
+
+        private void applyTo() {
+            WheelView wheelView = mWheelView;
+            if (has(ORIENTATION)) {
+                wheelView.setOrientation(mOrientation);
+                wheelView.deferLayout();
+            }
+            if (has(ITEM_VISIBLE_COUNT)) {
+                wheelView.setItemVisibleCount(mItemVisibleCount);
+            }
+            if (has(ITEM_VERTICAL_HEIGHT)) {
+                wheelView.setItemVerticalHeight(mItemVerticalHeight);
+            }
+            if (has(ITEM_SELECT_LINE_ENABLE)) {
+                wheelView.setItemSelectLineEnable(mItemSelectLineEnable);
+                wheelView.deferLayout();
+            }
+            if (has(ITEM_SELECT_LINE_LENGTH_SCALE)) {
+                wheelView.setItemSelectLineLengthScale(mItemSelectLineLengthScale);
+            }
+            if (has(ITEM_TEXT_SIZE)) {
+                wheelView.setItemTextSize(mItemTextSize);
+            }
+            if (has(LABEL)) {
+                wheelView.setLabel(mLabel);
+                wheelView.deferLayout();
+            }
+            if (has(ITEM_CYCLIC_ENABLE)) {
+                wheelView.setItemCyclicEnable(mItemCyclicEnable);
+            }
+            if (has(ADAPTER)) {
+                wheelView.setAdapter(mAdapter);
+            }
+            if (has(MIN_VALUE) && has(MAX_VALUE)) {
+                wheelView.setRange(mMinValue, mMaxValue);
+            } else if (has(MIN_VALUE)) {
+                wheelView.setMinValue(mMinValue);
+            } else if (has(MAX_VALUE)) {
+                wheelView.setMaxValue(mMaxValue);
+            }
+            if (has(VALUE)) {
+                wheelView.setValue(mValue);
+            }
+        }
+    }
+
+    /**
+     * Shares measurements and labels with the other wheels of the pool.
+     *
+     * @param pool the pool, such as {@link WheelResourcePool#getDefault()},
+     *             or null to keep them to this wheel
+     */
+    public void setResourcePool(WheelResourcePool pool) {
+        if (pool == mResourcePool) {
+            return;
+        }
+        mResourcePool = pool;
+        mMeasurePaint = null != pool ? pool.getMeasurePaint(mPaint) : newMeasurePaint();
+        refreshItemLabels();
+    }
+
+    public WheelResourcePool getResourcePool() {
+        return mResourcePool;
+    }
+
+    /**
+     * @return a paint with the typeface and flags of the draw paint, as
+     * {@link PreparedContent} measures with off the UI thread
+     */
+    private Paint newMeasurePaint() {
+        Paint paint = new Paint(mPaint.getFlags());
+        paint.setTypeface(mPaint.getTypeface());
+        return paint;
+    }
+
+    private void refreshItemLabels() {
+        invalidateItemLabels();
+        updateMaxWidthItem();
+        initViewSize(mViewWidth, mViewHeight);
+        initializeSelectorWheelIndices();
+        invalidate();
+    }
+
+    /**
+     * Call after the items of the adapter changed.
+     */
     public void refreshWhenSetDisplayedValues() {
-        if (mItemsDrawContents != null) {
-            if (mItemVisibleCount > mItemsDrawContents.length) {
-                setItemVisibleCount(mItemsDrawContents.length);
+        if (null != mResourcePool) {
+            mResourcePool.evictMaxWidthItem(mAdapter);
+        }
+        refreshContent(null);
+    }
+
+    /**
+     * @param maxWidthItem the widest item when already known, null to find it
+     */
+    private void refreshContent(CharSequence maxWidthItem) {
+        invalidateItemLabels();
+        if (null == maxWidthItem) {
+            updateMaxWidthItem();
+        } else {
+            mLabelGeometryInvalid = true;
+            mMaxWidthItem = formatNumericMaxWidthItem(maxWidthItem);
+        }
+        if (mAdapter != null) {
+            if (mItemVisibleCount > mAdapter.getItemCount()) {
+                setItemVisibleCount(mAdapter.getItemCount());
             }
             changeMinValue(1);
-            changeMaxValue(mItemsDrawContents.length);
+            changeMaxValue(mAdapter.getItemCount());
             initViewSize(mViewWidth, mViewHeight);
         }
         initializeSelectorWheelIndices();
     }
 
+    /**
+     * Sets how many resolved item texts are kept across scrolls.
+     */
+    public void setLabelCacheSize(int size) {
+        mLabelCache.resize(Math.max(size, mItemVisibleCount));
+        initializeSelectorWheelIndices();
+    }
+
+    /**
+     * Draws item labels from a bitmap atlas rasterized once at full text
+     * size, instead of shaping text at a new size for every item and frame.
+     */
+    public void setLabelAtlasEnable(boolean enable) {
+        mLabelAtlasEnable = enable;
+        updateLabelAtlas();
+        invalidate();
+    }
+
+    public boolean isLabelAtlasEnable() {
+        return mLabelAtlasEnable;
+    }
+
+    /**
+     * Sets the most bytes the label atlas bitmap may take, fewer labels are
+     * kept rasterized with a smaller budget.
+     */
+    public void setLabelAtlasMemoryBudget(int bytes) {
+        mLabelAtlasMemoryBudget = bytes;
+        updateLabelAtlas();
+    }
+
+    /**
+     * @return the bytes currently held by the label atlas bitmap
+     */
+    public int getLabelAtlasByteCount() {
+        return null == mLabelAtlas ? 0 : mLabelAtlas.getByteCount();
+    }
+
+    /**
+     * Snaps the scaled item text size to {@code count} evenly spaced sizes,
+     * so font metrics are computed once per size instead of per item and
+     * frame. Fewer sizes are cheaper but scale in visible steps.
+     *
+     * @param count the number of text sizes, less than 2 scales continuously
+     */
+    public void setItemTextSizeBucketCount(int count) {
+        mTextSizeBucketCount = count;
+        updateTextSizeBuckets();
+        invalidate();
+    }
+
+    public int getItemTextSizeBucketCount() {
+        return mTextSizeBucketCount;
+    }
+
+    /**
+     * Starts collecting counters into {@code metrics}, null stops. Nothing
+     * is measured while no metrics are set.
+     */
+    public void setWheelMetrics(WheelMetrics metrics) {
+        mWheelMetrics = metrics;
+    }
+
+    public WheelMetrics getWheelMetrics() {
+        return mWheelMetrics;
+    }
+
+    public long getLabelCacheHitCount() {
+        return mLabelCache.hitCount();
+    }
+
+    public long getLabelCacheMissCount() {
+        return mLabelCache.missCount();
+    }
+
     public void setLabel(String label) {
         mLabel = label;
+        mLabelGeometryInvalid = true;
     }
 
     public void setOnValueChangeFinishListener(OnValueChangeFinishListener listener) {
         this.changeFinishListener = listener;
     }
 
+    /**
+     * Sets a listener called for every value crossed, one value at a time.
+     * A scroll or fling tick that crosses several items replays all of
+     * them, so its cost grows with the items crossed while this is set.
+     * Callers that fling a lot can use
+     * {@link #setOnValueChangeCoalescedListener} instead.
+     */
     public void setOnValueChangedListener(OnValueChangeListener onValueChangedListener) {
         mOnValueChangeListener = onValueChangedListener;
     }
 
+    /**
+     * Sets a listener called at most once per frame with the folded value
+     * changes, unlike {@link #setOnValueChangedListener} which is called for
+     * every item crossed. Both can be set at the same time.
+     */
+    public void setOnValueChangeCoalescedListener(OnValueChangeCoalescedListener listener) {
+        mOnValueChangeCoalescedListener = listener;
+        if (null == listener) {
+            removeCallbacks(mCoalescedChangeDispatcher);
+            mValueChangeCoalescer.reset();
+        }
+    }
+
     public void setOnScrollListener(OnScrollListener onScrollListener) {
         mOnScrollListener = onScrollListener;
     }
@@ -0,0 +1,80 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link ItemExtents} against a plain scan of the heights.
+ */
+public class ItemExtentsTest {
+
+    private static int scanStart(int[] sizes, int index) {
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            start += sizes[i];
+        }
+        return start;
+    }
+
+    private static int scanIndexAt(int[] sizes, int position) {
+        int start = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            start += sizes[i];
+            if (position < start) {
+                return i;
+            }
+        }
+        return sizes.length - 1;
+    }
+
+    @Test
+    public void defaultSize_spacesItemsEvenly() {
+        ItemExtents extents = new ItemExtents(10, 40);
+        assertEquals(400, extents.getTotal());
+        assertEquals(120, extents.getStart(3));
+        assertEquals(140, extents.getCenter(3));
+        assertEquals(3, extents.indexAt(120));
+        assertEquals(2, extents.indexAt(119));
+        assertEquals(0, extents.indexAt(-5));
+        assertEquals(9, extents.indexAt(1000));
+    }
+
+    @Test
+    public void setSize_matchesScan() {
+        Random random = new Random(7);
+        int[] sizes = new int[1000];
+        ItemExtents extents = new ItemExtents(sizes.length, 40);
+        Arrays.fill(sizes, 40);
+        for (int round = 0; round < 500; round++) {
+            int index = random.nextInt(sizes.length);
+            sizes[index] = 1 + random.nextInt(120);
+            extents.setSize(index, sizes[index]);
+            int probe = random.nextInt(sizes.length);
+            assertEquals(scanStart(sizes, probe), extents.getStart(probe));
+            assertEquals(sizes[probe], extents.getSize(probe));
+            int position = random.nextInt(scanStart(sizes, sizes.length));
+            assertEquals(scanIndexAt(sizes, position), extents.indexAt(position));
+        }
+        assertEquals(scanStart(sizes, sizes.length), extents.getTotal());
+    }
+
+    @Test
+    public void setDefaultSize_keepsOwnSizes() {
+        ItemExtents extents = new ItemExtents(5, 40);
+        extents.setSize(2, 100);
+        extents.setDefaultSize(20);
+        assertEquals(20, extents.getSize(1));
+        assertEquals(100, extents.getSize(2));
+        assertEquals(180, extents.getTotal());
+        assertEquals(140, extents.getStart(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setSize_rejectsZero() {
+        new ItemExtents(5, 40).setSize(0, 0);
+    }
+}
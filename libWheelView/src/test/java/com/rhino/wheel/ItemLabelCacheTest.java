@@ -0,0 +1,69 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks {@link ItemLabelCache} eviction order and counters.
+ */
+public class ItemLabelCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        ItemLabelCache cache = new ItemLabelCache(3);
+        cache.put(1, "1");
+        cache.put(2, "2");
+        cache.put(3, "3");
+        assertEquals("1", cache.get(1));
+        cache.put(4, "4");
+        assertNull(cache.get(2));
+        assertEquals("1", cache.get(1));
+        assertEquals("3", cache.get(3));
+        assertEquals("4", cache.get(4));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        ItemLabelCache cache = new ItemLabelCache(4);
+        cache.get(7);
+        cache.put(7, "7");
+        cache.get(7);
+        cache.get(7);
+        cache.clear();
+        cache.get(7);
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void matchesLinkedHashMap() {
+        final int maxSize = 16;
+        Map<Integer, CharSequence> expected = new LinkedHashMap<Integer, CharSequence>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CharSequence> eldest) {
+                return size() > maxSize;
+            }
+        };
+        ItemLabelCache cache = new ItemLabelCache(maxSize);
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(64) - 16;
+            if (random.nextBoolean()) {
+                CharSequence value = "v" + i;
+                expected.put(key, value);
+                cache.put(key, value);
+            } else {
+                assertEquals(expected.get(key), cache.get(key));
+            }
+            assertEquals(expected.size(), cache.size());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link ItemProjection} against the per-frame formulas of the item rects.
+ */
+public class ItemProjectionTest {
+
+    private static final float[] MIN_ALPHAS = {0f, 0.1f, 0.35f, 1f};
+
+    @Test
+    public void vertical_matchesFormulas() {
+        int[][] geometries = {
+                // viewHeight, itemHeight, visibleCount
+                {280, 40, 7},
+                {300, 40, 7},
+                {601, 40, 15},
+                {120, 60, 3},
+                {97, 13, 5},
+        };
+        for (int[] g : geometries) {
+            int viewHeight = g[0];
+            int itemHeight = g[1];
+            int count = g[2];
+            int totalHeight = itemHeight * count;
+            int offsetTotalHeight = (viewHeight - totalHeight) / 2;
+            int first = viewHeight / 2 - count / 2 * itemHeight;
+            int last = first + (count - 1) * itemHeight;
+            for (float minAlpha : MIN_ALPHAS) {
+                ItemProjection projection = ItemProjection.vertical(viewHeight, totalHeight, offsetTotalHeight,
+                        minAlpha, first - itemHeight, last + itemHeight);
+                // Deliberately also covers coordinates outside the table.
+                for (int cy = first - 3 * itemHeight; cy <= last + 3 * itemHeight; cy++) {
+                    float fac1 = verticalFac1(cy, totalHeight, offsetTotalHeight);
+                    float scale = 0.6f + 0.4f * fac1 * fac1;
+                    float alpha = minAlpha + (1 - minAlpha) * fac1 * fac1;
+                    int drawY;
+                    if (cy > (viewHeight / 2)) {
+                        drawY = (int) (viewHeight - (viewHeight - cy) * scale);
+                    } else {
+                        drawY = (int) (scale * cy);
+                    }
+                    assertEquals("scale at " + cy, scale, projection.getScale(cy), 0f);
+                    assertEquals("alpha at " + cy, alpha, projection.getAlpha(cy), 0f);
+                    assertEquals("drawY at " + cy, drawY, projection.getDrawCoor(cy));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void horizontal_matchesFormulas() {
+        int[][] geometries = {
+                // viewWidth, visibleCount
+                {700, 7},
+                {701, 7},
+                {1080, 15},
+                {90, 3},
+        };
+        for (int[] g : geometries) {
+            int viewWidth = g[0];
+            int count = g[1];
+            int halfWidth = viewWidth / 2;
+            int itemSize = viewWidth / count;
+            int first = itemSize / 2;
+            int last = first + (count - 1) * itemSize;
+            for (float minAlpha : MIN_ALPHAS) {
+                ItemProjection projection = ItemProjection.horizontal(viewWidth, halfWidth, minAlpha,
+                        first - itemSize, last + itemSize);
+                for (int cx = first - 3 * itemSize; cx <= last + 3 * itemSize; cx++) {
+                    float fac1;
+                    if (cx > halfWidth) {
+                        fac1 = (viewWidth - cx) / (halfWidth * 1f);
+                    } else {
+                        fac1 = cx / (halfWidth * 1f);
+                    }
+                    float scale = 0.6f + 0.4f * fac1 * fac1;
+                    float alpha = minAlpha + (1 - minAlpha) * fac1 * fac1;
+                    int drawX;
+                    if (cx > halfWidth) {
+                        drawX = (int) (viewWidth - (viewWidth - cx) * scale);
+                    } else {
+                        drawX = (int) (cx * scale);
+                    }
+                    assertEquals("scale at " + cx, scale, projection.getScale(cx), 0f);
+                    assertEquals("alpha at " + cx, alpha, projection.getAlpha(cx), 0f);
+                    assertEquals("drawX at " + cx, drawX, projection.getDrawCoor(cx));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void emptyTable_fallsBackToFormulas() {
+        ItemProjection projection = ItemProjection.horizontal(100, 50, 0.1f, 10, 0);
+        assertEquals(1f, projection.getScale(50), 0f);
+        assertEquals(0.6f, projection.getScale(0), 0f);
+        assertEquals(0.1f, projection.getAlpha(100), 0f);
+        assertEquals(50, projection.getDrawCoor(50));
+    }
+
+    private static float verticalFac1(int cy, int totalHeight, int offsetTotalHeight) {
+        int y = cy - offsetTotalHeight;
+        if (y > totalHeight / 2) {
+            return (totalHeight - y) / (totalHeight * 0.5f);
+        } else {
+            return y / (totalHeight * 0.5f);
+        }
+    }
+}
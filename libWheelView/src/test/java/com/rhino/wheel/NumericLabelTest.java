@@ -0,0 +1,67 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks the formats of {@link NumericLabel}.
+ */
+public class NumericLabelTest {
+
+    private static String format(NumericLabel label, int value) {
+        label.set(value);
+        return label.toString();
+    }
+
+    @Test
+    public void set_plainNumbers() {
+        NumericLabel label = new NumericLabel(0, false, null, null);
+        assertEquals("0", format(label, 0));
+        assertEquals("7", format(label, 7));
+        assertEquals("1000000", format(label, 1000000));
+        assertEquals("-42", format(label, -42));
+        assertEquals(String.valueOf(Integer.MAX_VALUE), format(label, Integer.MAX_VALUE));
+        assertEquals(String.valueOf(Integer.MIN_VALUE), format(label, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void set_padsToWidth() {
+        NumericLabel zeros = new NumericLabel(2, true, null, null);
+        assertEquals("05", format(zeros, 5));
+        assertEquals("59", format(zeros, 59));
+        assertEquals("123", format(zeros, 123));
+        assertEquals("-05", format(zeros, -5));
+
+        NumericLabel spaces = new NumericLabel(3, false, null, null);
+        assertEquals("  5", format(spaces, 5));
+        assertEquals("  -5", format(spaces, -5));
+    }
+
+    @Test
+    public void set_addsPrefixAndSuffix() {
+        NumericLabel label = new NumericLabel(2, true, "No.", " min");
+        assertEquals("No.07 min", format(label, 7));
+        assertEquals("No.1234 min", format(label, 1234));
+        assertEquals(9, format(label, 0).length());
+    }
+
+    @Test
+    public void set_reusesBuffer() {
+        NumericLabel label = new NumericLabel(0, false, "", "");
+        char[] chars = label.getChars();
+        label.set(12345);
+        label.set(6);
+        assertSame(chars, label.getChars());
+        assertEquals(1, label.length());
+        assertEquals('6', label.charAt(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void charAt_rejectsIndexPastLength() {
+        NumericLabel label = new NumericLabel(0, false, null, null);
+        label.set(12);
+        label.charAt(2);
+    }
+}
@@ -0,0 +1,60 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the widest label search of {@link NumericWheelAdapter} against a full scan.
+ */
+public class NumericWheelAdapterTest {
+
+    @Test
+    public void getItem_isLazyLabel() {
+        NumericWheelAdapter adapter = new NumericWheelAdapter(5, 1000000);
+        assertEquals(999996, adapter.getItemCount());
+        assertEquals("5", adapter.getItem(0).toString());
+        assertEquals("1000000", adapter.getItem(999995).toString());
+    }
+
+    @Test
+    public void getMaxWidthValue_tabularDigits() {
+        float[] widths = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+        assertEquals(9, NumericWheelAdapter.getMaxWidthValue(0, 9, widths));
+        assertEquals(59, NumericWheelAdapter.getMaxWidthValue(0, 59, widths));
+        assertEquals(1000000, NumericWheelAdapter.getMaxWidthValue(1, 1000000, widths));
+    }
+
+    @Test
+    public void getMaxWidthValue_matchesFullScan() {
+        Random random = new Random(20180127L);
+        for (int round = 0; round < 300; round++) {
+            float[] widths = new float[10];
+            for (int d = 0; d < widths.length; d++) {
+                widths[d] = 1 + random.nextInt(4) * 0.25f;
+            }
+            long min = random.nextInt(round % 3 == 0 ? 20 : 5000);
+            long max = min + random.nextInt(round % 2 == 0 ? 200 : 20000);
+            assertEquals("range [" + min + ", " + max + "]",
+                    fullScan(min, max, widths), NumericWheelAdapter.getMaxWidthValue(min, max, widths));
+        }
+    }
+
+    private static long fullScan(long min, long max, float[] widths) {
+        long best = -1;
+        float bestWidth = -1;
+        for (long value = min; value <= max; value++) {
+            float width = 0;
+            for (char c : String.valueOf(value).toCharArray()) {
+                width += widths[c - '0'];
+            }
+            if (width >= bestWidth) {
+                best = value;
+                bestWidth = width;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,80 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link SnapFling} plans flings that end on an item boundary.
+ */
+public class SnapFlingTest {
+
+    private static final int ITEM_SIZE = 40;
+
+    @Test
+    public void compute_endsOnItemBoundary() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        int[] offsets = {-19, -7, 0, 7, 19};
+        float[] velocities = {-3000f, -600f, 600f, 3000f};
+        for (int offset : offsets) {
+            for (float velocity : velocities) {
+                fling.compute(velocity, offset, ITEM_SIZE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+                assertEquals(fling.getItemCount() * ITEM_SIZE, offset + fling.getDistance());
+                assertTrue(fling.getDistance() == 0 || (fling.getDistance() > 0) == (velocity > 0));
+            }
+        }
+    }
+
+    @Test
+    public void compute_startsAtReleaseVelocity() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        fling.compute(2000f, 0, ITEM_SIZE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        float startVelocity = 2000f * fling.getDistance() / fling.getDuration();
+        assertEquals(2000f, startVelocity, 20f);
+    }
+
+    @Test
+    public void compute_neverTurnsBack() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        fling.compute(100f, 15, ITEM_SIZE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals(1, fling.getItemCount());
+        assertEquals(25, fling.getDistance());
+    }
+
+    @Test
+    public void compute_clampsToEnds() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        fling.compute(5000f, 10, ITEM_SIZE, 3, Integer.MAX_VALUE);
+        assertEquals(3, fling.getItemCount());
+        assertEquals(110, fling.getDistance());
+
+        fling.compute(-5000f, 10, ITEM_SIZE, Integer.MAX_VALUE, 0);
+        assertEquals(0, fling.getItemCount());
+        assertEquals(-10, fling.getDistance());
+        assertEquals(SnapFling.MIN_DURATION_MILLIS, fling.getDuration());
+    }
+
+    @Test
+    public void compute_restingOnTargetNeedsNoScroll() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        fling.compute(5000f, 0, ITEM_SIZE, 0, 0);
+        assertEquals(0, fling.getDistance());
+        assertEquals(0, fling.getDuration());
+    }
+
+    @Test
+    public void setFriction_shortensFling() {
+        SnapFling fling = new SnapFling(1f, 0.015f);
+        fling.compute(3000f, 0, ITEM_SIZE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        int items = fling.getItemCount();
+        fling.setFriction(0.05f);
+        fling.compute(3000f, 0, ITEM_SIZE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertTrue(fling.getItemCount() < items);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setFriction_rejectsZero() {
+        new SnapFling(1f, 0f);
+    }
+}
@@ -0,0 +1,44 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link TextSizeBuckets} snaps every scale to its nearest bucket.
+ */
+public class TextSizeBucketsTest {
+
+    @Test
+    public void indexOf_picksNearestBucket() {
+        int[] counts = {2, 3, 5, 8, 16, 64};
+        for (int count : counts) {
+            TextSizeBuckets buckets = new TextSizeBuckets(count, 0.6f, 1f);
+            assertEquals(count, buckets.size());
+            assertEquals(0.6f, buckets.scaleAt(0), 0f);
+            assertEquals(1f, buckets.scaleAt(count - 1), 1e-6f);
+            for (float scale = 0.6f; scale <= 1f; scale += 0.0007f) {
+                int index = buckets.indexOf(scale);
+                float error = Math.abs(buckets.scaleAt(index) - scale);
+                for (int i = 0; i < count; i++) {
+                    assertTrue("count " + count + " scale " + scale,
+                            error <= Math.abs(buckets.scaleAt(i) - scale) + 1e-6f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void indexOf_clampsOutOfRange() {
+        TextSizeBuckets buckets = new TextSizeBuckets(4, 0.6f, 1f);
+        assertEquals(0, buckets.indexOf(0f));
+        assertEquals(0, buckets.indexOf(-3f));
+        assertEquals(3, buckets.indexOf(1.5f));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooFewBuckets_throws() {
+        new TextSizeBuckets(1, 0.6f, 1f);
+    }
+}
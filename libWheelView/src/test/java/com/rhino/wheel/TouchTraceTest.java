@@ -0,0 +1,54 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that a {@link TouchTrace} survives the text format unchanged.
+ */
+public class TouchTraceTest {
+
+    @Test
+    public void writeRead_roundTrips() throws IOException {
+        TouchTrace trace = new TouchTrace();
+        trace.add(0, 0, 150, 60);
+        trace.add(16, 2, 150.5f, 65.25f);
+        trace.add(16, 2, 151, 80);
+        trace.add(120, 1, -3.75f, 1e6f);
+        StringWriter writer = new StringWriter();
+        trace.write(writer);
+        assertEquals("wheeltrace 1\n0 0 150 60\n16 2 150.5 65.25\n0 2 151 80\n104 1 -3.75 1000000\n",
+                writer.toString());
+
+        TouchTrace read = TouchTrace.read(new StringReader(writer.toString()));
+        assertEquals(trace.size(), read.size());
+        for (int i = 0; i < trace.size(); i++) {
+            assertEquals(trace.get(i).time, read.get(i).time);
+            assertEquals(trace.get(i).action, read.get(i).action);
+            assertEquals(trace.get(i).x, read.get(i).x, 0f);
+            assertEquals(trace.get(i).y, read.get(i).y, 0f);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void read_rejectsMissingHeader() throws IOException {
+        TouchTrace.read(new StringReader("0 0 1 1\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_rejectsBadEvent() throws IOException {
+        TouchTrace.read(new StringReader("wheeltrace 1\n0 0 1\n"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_rejectsEventsOutOfOrder() {
+        TouchTrace trace = new TouchTrace();
+        trace.add(10, 0, 0, 0);
+        trace.add(5, 2, 0, 0);
+    }
+}
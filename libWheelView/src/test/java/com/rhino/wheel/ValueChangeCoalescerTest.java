@@ -0,0 +1,45 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks how {@link ValueChangeCoalescer} folds the changes of one frame.
+ */
+public class ValueChangeCoalescerTest {
+
+    @Test
+    public void add_foldsChangesUntilReset() {
+        ValueChangeCoalescer coalescer = new ValueChangeCoalescer();
+        assertFalse(coalescer.isPending());
+
+        assertTrue(coalescer.add(5, 6, 1));
+        assertFalse(coalescer.add(6, 9, 3));
+        assertFalse(coalescer.add(9, 10, 1));
+        assertTrue(coalescer.hasChanged());
+        assertEquals(5, coalescer.getFromValue());
+        assertEquals(10, coalescer.getToValue());
+        assertEquals(4, coalescer.getSkippedCount());
+
+        coalescer.reset();
+        assertFalse(coalescer.isPending());
+        assertFalse(coalescer.hasChanged());
+        assertTrue(coalescer.add(10, 2, 1));
+        assertEquals(10, coalescer.getFromValue());
+        assertEquals(2, coalescer.getToValue());
+        assertEquals(0, coalescer.getSkippedCount());
+    }
+
+    @Test
+    public void add_backAndForth_isNotAChange() {
+        ValueChangeCoalescer coalescer = new ValueChangeCoalescer();
+        coalescer.add(3, 4, 1);
+        coalescer.add(4, 3, 1);
+        assertTrue(coalescer.isPending());
+        assertFalse(coalescer.hasChanged());
+        assertEquals(1, coalescer.getSkippedCount());
+    }
+}
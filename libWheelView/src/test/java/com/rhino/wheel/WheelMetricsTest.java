@@ -0,0 +1,82 @@
+package com.rhino.wheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the aggregates {@link WheelMetrics} derives from its counters.
+ */
+public class WheelMetricsTest {
+
+    @Test
+    public void frames_averageItemsAndDrawTime() {
+        WheelMetrics metrics = new WheelMetrics();
+        for (int i = 0; i < 7; i++) {
+            metrics.onItemDrawn();
+        }
+        metrics.onFrameDrawn(300);
+        for (int i = 0; i < 5; i++) {
+            metrics.onItemDrawn();
+        }
+        metrics.onFrameDrawn(100);
+        assertEquals(2, metrics.getFrameCount());
+        assertEquals(400, metrics.getDrawTimeNanos());
+        assertEquals(300, metrics.getMaxDrawTimeNanos());
+        assertEquals(200, metrics.getAverageDrawTimeNanos());
+        assertEquals(6f, metrics.getAverageItemsDrawnPerFrame(), 0f);
+        assertEquals(5, metrics.getLastFrameItemsDrawn());
+    }
+
+    @Test
+    public void scrollAndFling_countTicks() {
+        WheelMetrics metrics = new WheelMetrics();
+        metrics.onScrollTick(0);
+        metrics.onScrollTick(1);
+        metrics.onScrollTick(5);
+        assertEquals(3, metrics.getScrollTickCount());
+        assertEquals(2f, metrics.getAverageCrossingsPerScrollTick(), 0f);
+        assertEquals(5, metrics.getMaxCrossingsPerScrollTick());
+
+        metrics.onFlingTick();
+        metrics.onFlingStart();
+        metrics.onFlingTick();
+        metrics.onFlingTick();
+        metrics.onFlingTick();
+        metrics.onFlingEnd();
+        metrics.onFlingEnd();
+        metrics.onFlingStart();
+        metrics.onFlingTick();
+        // A new fling ends the unfinished one.
+        metrics.onFlingStart();
+        metrics.onFlingEnd();
+        assertEquals(3, metrics.getFlingCount());
+        assertEquals(4 / 3f, metrics.getAverageTicksPerFling(), 1e-6f);
+    }
+
+    @Test
+    public void labelLookupsAndSettles_areAggregated() {
+        WheelMetrics metrics = new WheelMetrics();
+        metrics.onLabelLookup(true);
+        metrics.onLabelLookup(true);
+        metrics.onLabelLookup(true);
+        metrics.onLabelLookup(false);
+        assertEquals(0.75f, metrics.getLabelCacheHitRate(), 0f);
+
+        metrics.onSettleEnd(50);
+        metrics.onSettleStart(100);
+        metrics.onSettleEnd(400);
+        metrics.onSettleStart(1000);
+        metrics.onSettleCancel();
+        metrics.onSettleEnd(5000);
+        metrics.onSettleStart(6000);
+        metrics.onSettleEnd(6100);
+        assertEquals(2, metrics.getSettleCount());
+        assertEquals(200, metrics.getAverageSettleTimeNanos());
+        assertEquals(300, metrics.getMaxSettleTimeNanos());
+
+        metrics.reset();
+        assertEquals(0, metrics.getSettleCount());
+        assertEquals(0f, metrics.getLabelCacheHitRate(), 0f);
+    }
+}